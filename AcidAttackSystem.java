@@ -0,0 +1,60 @@
+import java.io.File;
+import java.util.List;
+
+// Zombies with an acid attack spit a slow bullet at the player instead of biting
+public class AcidAttackSystem implements GameSystem {
+    private final GameInfo gameInfo;
+    private final EntityRegistry.Query spitters;
+
+    public AcidAttackSystem(GameInfo gameInfo) {
+        this.gameInfo = gameInfo;
+        this.spitters = gameInfo.world.query(Components.AcidAttack.class);
+    }
+
+    @Override
+    public void update(long currentTime) {
+        ZombieStore zombieStore = gameInfo.zombieStore;
+        double targetX = gameInfo.player.getCenterX();
+        double targetY = gameInfo.player.getCenterY();
+
+        List<Archetype> archetypes = spitters.archetypes();
+        for (int a = 0; a < archetypes.size(); a++) {
+            Archetype archetype = archetypes.get(a);
+            Object[] acidAttacks = archetype.column(Components.AcidAttack.class);
+            for (int row = 0; row < archetype.size(); row++) {
+                Zombie zombie = (Zombie)archetype.getEntity(row);
+                int slot = zombie.storeSlot;
+                if (!zombieStore.isAttackReady(slot, currentTime)) {
+                    continue;
+                }
+                zombieStore.startAttack(slot, currentTime);
+                gameInfo.addBullet(spit(zombie, (Components.AcidAttack)acidAttacks[row], targetX, targetY));
+            }
+        }
+    }
+
+    private Bullet spit(Zombie zombie, Components.AcidAttack acid, double targetX, double targetY) {
+        Bullet acidBullet = Bullet.Pool.getBullet(zombie.getCenterX(), zombie.getCenterY(), null);
+
+        acidBullet.appearanceImagePath = acid.bulletImagePath;
+        acidBullet.setImage(new File(acidBullet.appearanceImagePath));
+        acidBullet.bulletSize = acid.bulletSize;
+
+        double dx = targetX - zombie.getCenterX();
+        double dy = targetY - zombie.getCenterY();
+        double length = Math.sqrt(dx * dx + dy * dy);
+        if (length > 0) {
+            dx /= length;
+            dy /= length;
+        }
+        acidBullet.directionX = dx;
+        acidBullet.directionY = dy;
+        acidBullet.rotation = Math.toDegrees(Math.atan2(dy, dx));
+
+        acidBullet.setZombieBullet(true);
+        acidBullet.setDamage(zombie.damage);
+        acidBullet.moveSpeed = acidBullet.moveSpeed * acid.bulletSpeedFactor;
+        GameInfo.playSound(acid.firingSoundPath);
+        return acidBullet;
+    }
+}
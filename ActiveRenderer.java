@@ -0,0 +1,53 @@
+import java.awt.Canvas;
+import java.awt.Graphics2D;
+import java.awt.Toolkit;
+import java.awt.image.BufferStrategy;
+import java.util.function.Consumer;
+
+// Page-flipped surface the game loop draws into directly, bypassing Swing's repaint scheduling
+public class ActiveRenderer extends Canvas {
+    private static final int BUFFER_COUNT = 2;
+
+    private BufferStrategy strategy;
+
+    public ActiveRenderer(int width, int height) {
+        setSize(width, height);
+        // Frames only come from present(), never from AWT repaint requests
+        setIgnoreRepaint(true);
+        // Keys keep going to the game panel
+        setFocusable(false);
+    }
+
+    // Draws one frame and flips it to the screen; returns false if the canvas can't be drawn to yet
+    public boolean present(Consumer<Graphics2D> painter) {
+        if (!isDisplayable() || !isShowing()) {
+            return false;
+        }
+        if (strategy == null) {
+            createBufferStrategy(BUFFER_COUNT);
+            strategy = getBufferStrategy();
+        }
+
+        do {
+            do {
+                Graphics2D g2d = (Graphics2D) strategy.getDrawGraphics();
+                try {
+                    painter.accept(g2d);
+                } finally {
+                    g2d.dispose();
+                }
+            } while (strategy.contentsRestored());
+            strategy.show();
+        } while (strategy.contentsLost());
+
+        // Flush the pipeline so the flip isn't held back by the window system
+        Toolkit.getDefaultToolkit().sync();
+        return true;
+    }
+
+    @Override
+    public void removeNotify() {
+        strategy = null;
+        super.removeNotify();
+    }
+}
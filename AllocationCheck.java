@@ -0,0 +1,100 @@
+import java.lang.management.ManagementFactory;
+import java.util.Random;
+
+// Measures the heap a warmed-up simulation tick allocates in a crowded scene where nothing ever hits:
+// zombies and bullets stand still just apart from each other and the drops lie out of reach, so every
+// tick runs the grid queries, swept hit tests and overlap checks and all of them miss. The zombies hold
+// their ground, which leaves out the walk and its lookups in the tile map.
+// A collision path that allocates shows up as bytes per tick; the exit status is 1 if any were seen.
+// Usage: java -Djava.awt.headless=true AllocationCheck [ticks]
+public class AllocationCheck {
+    private static final int ZOMBIES = 200;
+    private static final int BULLETS = 100;
+    private static final int DROPS = 50;
+    private static final int WARM_UP_TICKS = 20000;
+    // Keeps the scene out of the player's reach and the zombies out of attack range
+    private static final double PLAYER_CLEARANCE = 250;
+
+    public static void main(String[] args) {
+        // Must be set before any AWT class loads
+        System.setProperty("java.awt.headless", "true");
+        int ticks = args.length > 0 ? Integer.parseInt(args[0]) : 5000;
+
+        GameInfo gameInfo = new GameInfo(false);
+        gameInfo.createPlayer();
+        Simulation simulation = new Simulation(gameInfo, new Random(1));
+        gameInfo.simulation = simulation;
+        simulation.centerPlayer();
+        buildScene(gameInfo, new Random(1));
+
+        for (int i = 0; i < WARM_UP_TICKS; i++) {
+            simulation.tick();
+        }
+
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean)ManagementFactory.getThreadMXBean();
+        long before = threads.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < ticks; i++) {
+            simulation.tick();
+        }
+        long allocated = threads.getCurrentThreadAllocatedBytes() - before;
+
+        // A hit or a pickup would allocate for reasons that have nothing to do with collision tests
+        boolean sceneIntact = gameInfo.zombies.size() == ZOMBIES && gameInfo.bullets.size() == BULLETS
+            && gameInfo.drops.size() == DROPS;
+        System.out.printf("ticks=%d zombies=%d bullets=%d drops=%d allocatedBytes=%d bytesPerTick=%.1f%n",
+            ticks, gameInfo.zombies.size(), gameInfo.bullets.size(), gameInfo.drops.size(), allocated,
+            allocated / (double)ticks);
+        if (!sceneIntact) {
+            System.err.println("Scene changed during the run, something was hit or picked up");
+        }
+        System.exit(allocated == 0 && sceneIntact ? 0 : 1);
+    }
+
+    private static void buildScene(GameInfo gameInfo, Random random) {
+        Player player = gameInfo.player;
+        while (gameInfo.zombies.size() < ZOMBIES) {
+            Zombie zombie = new NormalZombie(random.nextInt(Simulation.VIEW_WIDTH - Zombie.ZOMBIE_WIDTH),
+                random.nextInt(Simulation.VIEW_HEIGHT - Zombie.ZOMBIE_HEIGHT));
+            // Close enough to stop walking from anywhere on screen, never close enough to bite
+            zombie.attackDistancePercent = 100;
+            if (isClear(gameInfo, zombie, player)) {
+                gameInfo.addZombie(zombie);
+            }
+        }
+        // Nothing more spawns this wave
+        gameInfo.zombiesSpawned = gameInfo.getMaxZombiesPerWave();
+
+        while (gameInfo.bullets.size() < BULLETS) {
+            Bullet bullet = Bullet.Pool.getBullet(random.nextInt(Simulation.VIEW_WIDTH),
+                random.nextInt(Simulation.VIEW_HEIGHT), player.weapons.get(0));
+            bullet.moveSpeed = 0;
+            if (isClear(gameInfo, bullet, player)) {
+                gameInfo.addBullet(bullet);
+            } else {
+                Bullet.Pool.returnBullet(bullet);
+            }
+        }
+
+        while (gameInfo.drops.size() < DROPS) {
+            HealthDrop drop = new HealthDrop(random.nextInt(Simulation.VIEW_WIDTH), random.nextInt(Simulation.VIEW_HEIGHT));
+            if (isClear(gameInfo, drop, player)) {
+                gameInfo.addDrop(drop);
+            }
+        }
+    }
+
+    // Far enough from the player and not touching any zombie
+    private static boolean isClear(GameInfo gameInfo, Entity entity, Player player) {
+        double dx = entity.getCenterX() - player.getCenterX();
+        double dy = entity.getCenterY() - player.getCenterY();
+        if (dx * dx + dy * dy < PLAYER_CLEARANCE * PLAYER_CLEARANCE) {
+            return false;
+        }
+        for (Zombie zombie : gameInfo.zombies) {
+            if (Collision.overlaps(entity, zombie)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -36,4 +36,9 @@ public class AmmoDrop extends Drop {
     public Weapon getSourceWeapon() {
         return sourceWeapon;
     }
+
+    @Override
+    protected Object[] createComponents() {
+        return new Object[] { new Components.AmmoPickup(sourceWeapon, ammoAmount) };
+    }
 }
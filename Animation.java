@@ -1,16 +1,15 @@
 import java.awt.Graphics2D;
 import java.awt.image.BufferedImage;
-import java.io.File;
-import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
-import javax.imageio.ImageIO;
 
 public class Animation extends Entity {
-    private List<BufferedImage> frames;
+    // Frames are shared and immutable, each instance only holds playback state
+    private FrameSet frames;
     private int width, height;
     private int currentFrame = 0;
-    private long lastFrameTime = 0;
+    // -1 until the first update, which starts timing from that tick's game time
+    private long lastFrameTime = -1;
     private boolean isCompleted = false;
     private boolean loop = false;
     private int frameDelay;
@@ -24,58 +23,54 @@ public class Animation extends Entity {
         this.frameDelay = frameDelay;
         this.loop = loop;
         this.type = type;
-        this.frames = new ArrayList<>();
+        this.frames = FrameSet.of(new ArrayList<>());
+    }
+    
+    public Animation(double x, double y, int width, int height, int frameDelay, boolean loop, String type, FrameSet frames) {
+        this(x, y, width, height, frameDelay, loop, type);
+        setFrameSet(frames);
     }
     
     public void loadFrames(String directory) {
-        frames.clear();
-        File dir = new File(directory);
-        
-        if (!dir.exists() || !dir.isDirectory()) {
-            System.err.println("Animation directory not found: " + directory);
-            return;
-        }
-        
-        // Get all PNG files in the directory
-        File[] files = dir.listFiles((d, name) -> name.toLowerCase().endsWith(".png"));
-        
-        if (files == null || files.length == 0) {
-            System.err.println("No frames found in: " + directory);
-            return;
-        }
-        
-        java.util.Arrays.sort(files, (f1, f2) -> f1.getName().compareTo(f2.getName()));
-        
-        for (File file : files) {
-            try {
-                BufferedImage frame = ImageIO.read(file);
-                frames.add(frame);
-            } catch (IOException e) {
-                System.err.println("Error loading frame: " + file.getName());
-            }
-        }
-        
-        lastFrameTime = System.currentTimeMillis();
+        setFrameSet(FrameSet.forDirectory(directory));
+    }
+    
+    public void setFrameSet(FrameSet frames) {
+        this.frames = frames;
+        lastFrameTime = -1;
+    }
+    
+    public FrameSet getFrameSet() {
+        return frames;
     }
     
     public void addFrame(BufferedImage frame) {
         if (frames.isEmpty()) {
-            lastFrameTime = System.currentTimeMillis();
+            lastFrameTime = -1;
         }
-        frames.add(frame);
+        // Shared frame sets are immutable, so appending builds a private copy
+        List<BufferedImage> copy = new ArrayList<>(frames.getFrames());
+        copy.add(frame);
+        frames = FrameSet.of(copy);
     }
     
     public void setFrames(List<BufferedImage> frames) {
-        this.frames = new ArrayList<>(frames);
-        lastFrameTime = System.currentTimeMillis();
+        setFrameSet(FrameSet.of(frames));
     }
     
-    public boolean update() {
+    @Override
+    protected Object[] createComponents() {
+        return new Object[] { new Components.Playback() };
+    }
+
+    public boolean update(long currentTime) {
         if (isCompleted || frames == null || frames.isEmpty()) {
             return false;
         }
         
-        long currentTime = System.currentTimeMillis();
+        if (lastFrameTime < 0) {
+            lastFrameTime = currentTime;
+        }
         if (currentTime - lastFrameTime > frameDelay) {
             currentFrame++;
             
@@ -94,12 +89,16 @@ public class Animation extends Entity {
     }
     
     public void draw(Graphics2D g2d) {
+        draw(g2d, 1.0);
+    }
+    
+    public void draw(Graphics2D g2d, double alpha) {
         if (isCompleted || frames == null || frames.isEmpty() || currentFrame < 0 || currentFrame >= frames.size()) {
             return;
         }
         
-        BufferedImage currentImage = frames.get(currentFrame);
-        g2d.drawImage(currentImage, (int)x, (int)y, width, height, null);
+        BufferedImage currentImage = frames.getFrame(currentFrame);
+        g2d.drawImage(currentImage, (int)getRenderX(alpha), (int)getRenderY(alpha), width, height, null);
     }
     
     public void setPosition(double x, double y) {
@@ -139,7 +138,7 @@ public class Animation extends Entity {
     public void reset() {
         currentFrame = 0;
         isCompleted = false;
-        lastFrameTime = System.currentTimeMillis();
+        lastFrameTime = -1;
     }
     
     public void setLoop(boolean loop) {
@@ -0,0 +1,26 @@
+import java.util.List;
+
+// Advances every animation's frames; finished ones leave the world at the end of the tick
+public class AnimationPlaybackSystem implements GameSystem {
+    private final List<Animation> animationsToRemove;
+    private final EntityRegistry.Query animations;
+
+    public AnimationPlaybackSystem(GameInfo gameInfo, List<Animation> animationsToRemove) {
+        this.animationsToRemove = animationsToRemove;
+        this.animations = gameInfo.world.query(Components.Playback.class);
+    }
+
+    @Override
+    public void update(long currentTime) {
+        List<Archetype> archetypes = animations.archetypes();
+        for (int a = 0; a < archetypes.size(); a++) {
+            Archetype archetype = archetypes.get(a);
+            for (int row = 0; row < archetype.size(); row++) {
+                Animation animation = (Animation)archetype.getEntity(row);
+                if (!animation.update(currentTime)) {
+                    animationsToRemove.add(animation);
+                }
+            }
+        }
+    }
+}
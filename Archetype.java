@@ -0,0 +1,86 @@
+import java.util.Arrays;
+
+// Every entity with exactly the same set of component types, packed together: row i of each column
+// belongs to entities[i]. Systems walk the rows of the archetypes that have what they need, so an
+// entity without a component never costs that component's system anything
+public class Archetype {
+    protected final long mask;
+    private final Class<?>[] types;
+    private Entity[] entities = new Entity[16];
+    private Object[][] columns;
+    private int count = 0;
+
+    Archetype(long mask, Class<?>[] types) {
+        this.mask = mask;
+        this.types = types;
+        this.columns = new Object[types.length][16];
+    }
+
+    public int size() {
+        return count;
+    }
+
+    public Entity getEntity(int row) {
+        return entities[row];
+    }
+
+    // The component array for a type, or null if this archetype doesn't have it. Fetch it again after
+    // anything spawns into this archetype, since adding a row can replace the array
+    public Object[] column(Class<?> type) {
+        for (int i = 0; i < types.length; i++) {
+            if (types[i] == type) {
+                return columns[i];
+            }
+        }
+        return null;
+    }
+
+    public boolean has(Class<?> type) {
+        return column(type) != null;
+    }
+
+    // Components must be given in the same order as the archetype's types; returns the new row
+    int add(Entity entity, Object[] components) {
+        if (count == entities.length) {
+            entities = Arrays.copyOf(entities, count * 2);
+            for (int i = 0; i < columns.length; i++) {
+                columns[i] = Arrays.copyOf(columns[i], count * 2);
+            }
+        }
+        entities[count] = entity;
+        for (int i = 0; i < columns.length; i++) {
+            columns[i][count] = components[i];
+        }
+        return count++;
+    }
+
+    // Fills the gap with the last row; returns the entity that moved into the row, or null if none did
+    Entity remove(int row) {
+        int last = --count;
+        Entity moved = null;
+        if (row != last) {
+            moved = entities[last];
+            entities[row] = moved;
+            for (int i = 0; i < columns.length; i++) {
+                columns[i][row] = columns[i][last];
+            }
+        }
+        entities[last] = null;
+        for (int i = 0; i < columns.length; i++) {
+            columns[i][last] = null;
+        }
+        return moved;
+    }
+
+    void clear() {
+        Arrays.fill(entities, 0, count, null);
+        for (int i = 0; i < columns.length; i++) {
+            Arrays.fill(columns[i], 0, count, null);
+        }
+        count = 0;
+    }
+
+    Class<?>[] getTypes() {
+        return types;
+    }
+}
@@ -0,0 +1,49 @@
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+// Every image and sound effect the game needs before gameplay starts
+public class AssetManifest {
+    protected static final String ASSET_DIRECTORY = "assets";
+    protected static final String SOUND_EFFECT_DIRECTORY = "assets/WeaponSounds";
+
+    protected final List<String> imagePaths = new ArrayList<>();
+    protected final List<String> soundPaths = new ArrayList<>();
+
+    public static AssetManifest createDefault() {
+        AssetManifest manifest = new AssetManifest();
+        addFiles(manifest.imagePaths, new File(ASSET_DIRECTORY), ".png");
+        // Music is streamed by MusicPlayer, only short effects are kept in memory
+        addFiles(manifest.soundPaths, new File(SOUND_EFFECT_DIRECTORY), ".wav");
+        return manifest;
+    }
+
+    private static void addFiles(List<String> paths, File directory, String extension) {
+        File[] files = directory.listFiles();
+        if (files == null) {
+            System.err.println("Asset directory not found: " + directory.getPath());
+            return;
+        }
+        Arrays.sort(files);
+        for (File file : files) {
+            if (file.isDirectory()) {
+                addFiles(paths, file, extension);
+            } else if (file.getName().toLowerCase().endsWith(extension)) {
+                paths.add(file.getPath());
+            }
+        }
+    }
+
+    public List<String> getImagePaths() {
+        return imagePaths;
+    }
+
+    public List<String> getSoundPaths() {
+        return soundPaths;
+    }
+
+    public int size() {
+        return imagePaths.size() + soundPaths.size();
+    }
+}
@@ -0,0 +1,103 @@
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Decodes the asset manifest in parallel while the main menu is showing
+public class AssetPreloader {
+    private static volatile AssetPreloader instance;
+
+    private final ForkJoinPool pool;
+    private final AtomicInteger completed = new AtomicInteger();
+    private final int total;
+    private final long startTime;
+    private volatile long loadTimeMs = -1;
+    private CompletableFuture<Void> completion;
+
+    private AssetPreloader(AssetManifest manifest) {
+        this.pool = new ForkJoinPool(Math.max(2, Runtime.getRuntime().availableProcessors()));
+        // One extra step for packing the atlas once everything is decoded
+        this.total = manifest.size() + 1;
+        this.startTime = System.currentTimeMillis();
+    }
+
+    public static synchronized AssetPreloader start(AssetManifest manifest) {
+        if (instance == null) {
+            AssetPreloader preloader = new AssetPreloader(manifest);
+            preloader.load(manifest);
+            instance = preloader;
+        }
+        return instance;
+    }
+
+    private void load(AssetManifest manifest) {
+        List<CompletableFuture<Void>> tasks = new ArrayList<>();
+        for (String path : manifest.getImagePaths()) {
+            tasks.add(CompletableFuture.runAsync(() -> {
+                ImageCache.get(path);
+                completed.incrementAndGet();
+            }, pool));
+        }
+        for (String path : manifest.getSoundPaths()) {
+            tasks.add(CompletableFuture.runAsync(() -> {
+                SoundBank.get(path);
+                AudioMetadata.get(path);
+                completed.incrementAndGet();
+            }, pool));
+        }
+
+        completion = CompletableFuture.allOf(tasks.toArray(new CompletableFuture<?>[0]))
+            .thenRunAsync(this::finish, pool)
+            .whenComplete((result, error) -> {
+                if (error != null) {
+                    System.err.println("Error preloading assets: " + error.getMessage());
+                }
+                loadTimeMs = System.currentTimeMillis() - startTime;
+                pool.shutdown();
+            });
+    }
+
+    // Steps that need every image decoded first
+    private void finish() {
+        TextureAtlas.buildDefault();
+        FrameSet.preloadAll();
+        HealthDrop.preloadFoodImages();
+        completed.incrementAndGet();
+    }
+
+    // Runs the action on a preloader thread once loading has finished, even if some of it failed
+    public void whenDone(Runnable action) {
+        completion.handle((result, error) -> {
+            action.run();
+            return null;
+        });
+    }
+
+    public static boolean isDone() {
+        return instance == null || instance.loadTimeMs >= 0;
+    }
+
+    public static double getProgress() {
+        if (instance == null) {
+            return 1.0;
+        }
+        return Math.min(1.0, (double)instance.completed.get() / instance.total);
+    }
+
+    public static long getLoadTimeMs() {
+        return instance == null ? 0 : instance.loadTimeMs;
+    }
+
+    // Block until preloading has finished, for callers that need every asset in memory
+    public static void awaitCompletion() {
+        if (instance != null) {
+            try {
+                instance.completion.join();
+            } catch (CompletionException e) {
+                // Already reported when loading finished
+            }
+        }
+    }
+}
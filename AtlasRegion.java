@@ -0,0 +1,59 @@
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+
+// A rectangle of a texture atlas page that holds one sprite
+public class AtlasRegion {
+    private final BufferedImage page;
+    private final int x;
+    private final int y;
+    private final int width;
+    private final int height;
+    private BufferedImage image;
+
+    public AtlasRegion(BufferedImage page, int x, int y, int width, int height) {
+        this.page = page;
+        this.x = x;
+        this.y = y;
+        this.width = width;
+        this.height = height;
+    }
+
+    public void draw(Graphics2D g2d, int drawX, int drawY, int drawWidth, int drawHeight) {
+        g2d.drawImage(page, drawX, drawY, drawX + drawWidth, drawY + drawHeight,
+                      x, y, x + width, y + height, null);
+    }
+
+    // Draw flipped horizontally by swapping the source edges, no transform needed
+    public void drawMirrored(Graphics2D g2d, int drawX, int drawY, int drawWidth, int drawHeight) {
+        g2d.drawImage(page, drawX, drawY, drawX + drawWidth, drawY + drawHeight,
+                      x + width, y, x, y + height, null);
+    }
+
+    // View of the region that shares the page's pixels
+    public BufferedImage getImage() {
+        if (image == null) {
+            image = page.getSubimage(x, y, width, height);
+        }
+        return image;
+    }
+
+    public BufferedImage getPage() {
+        return page;
+    }
+
+    public int getX() {
+        return x;
+    }
+
+    public int getY() {
+        return y;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+}
@@ -0,0 +1,57 @@
+import java.io.File;
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.AudioInputStream;
+import javax.sound.sampled.AudioSystem;
+import javax.sound.sampled.UnsupportedAudioFileException;
+
+// Format and length of audio files, read from the header once and queried by path
+public class AudioMetadata {
+    // Remembers files that are missing or unreadable so they aren't probed again
+    private static final AudioMetadata MISSING = new AudioMetadata(null, -1);
+    private static final Map<String, AudioMetadata> index = new ConcurrentHashMap<>();
+
+    private final AudioFormat format;
+    private final long frameLength;
+
+    private AudioMetadata(AudioFormat format, long frameLength) {
+        this.format = format;
+        this.frameLength = frameLength;
+    }
+
+    // Returns null when the file doesn't exist or can't be parsed
+    public static AudioMetadata get(String path) {
+        if (path == null) {
+            return null;
+        }
+        AudioMetadata metadata = index.computeIfAbsent(new File(path).getPath(), AudioMetadata::load);
+        return metadata == MISSING ? null : metadata;
+    }
+
+    private static AudioMetadata load(String path) {
+        File soundFile = new File(path);
+        if (!soundFile.exists()) {
+            return MISSING;
+        }
+        try (AudioInputStream audioInputStream = AudioSystem.getAudioInputStream(soundFile)) {
+            return new AudioMetadata(audioInputStream.getFormat(), audioInputStream.getFrameLength());
+        } catch (UnsupportedAudioFileException | IOException e) {
+            System.err.println("Error reading audio metadata: " + path + " - " + e.getMessage());
+            return MISSING;
+        }
+    }
+
+    public AudioFormat getFormat() {
+        return format;
+    }
+
+    public long getFrameLength() {
+        return frameLength;
+    }
+
+    public long getDurationMs() {
+        return (long) (frameLength / format.getFrameRate() * 1000);
+    }
+}
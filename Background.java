@@ -1,8 +1,6 @@
 import java.awt.Graphics2D;
 import java.awt.image.BufferedImage;
-import java.io.File;
 import java.io.IOException;
-import javax.imageio.ImageIO;
 import java.util.Random;
 import java.util.ArrayList;
 import java.util.List;
@@ -23,6 +21,8 @@ public class Background implements Serializable {
     protected final int TILE_SIZE = 64;
     private final double OBSTACLE_PROBABILITY = 0.25;
     private transient List<BufferedImage> tileImages;
+    // Saves from before world coordinates scrolled the map instead of moving the player;
+    // this is where their view was, and it's only read to convert them
     private double offsetX = 0;
     private double offsetY = 0;
     private transient Random random = new Random();
@@ -68,21 +68,21 @@ public class Background implements Serializable {
         
         // Load background tiles
         for (String path : backgroundPaths) {
-            try {
-                BufferedImage img = ImageIO.read(new File(path));
+            BufferedImage img = ImageCache.get(path);
+            if (img != null) {
                 tileImages.add(img);
-            } catch (IOException e) {
-                System.err.println("Failed to load background tile: " + path + " - " + e.getMessage());
+            } else {
+                System.err.println("Failed to load background tile: " + path);
             }
         }
         
         // Load obstacle tiles
         for (String path : obstaclePaths) {
-            try {
-                BufferedImage img = ImageIO.read(new File(path));
+            BufferedImage img = ImageCache.get(path);
+            if (img != null) {
                 tileImages.add(img);
-            } catch (IOException e) {
-                System.err.println("Failed to load obstacle tile: " + path + " - " + e.getMessage());
+            } else {
+                System.err.println("Failed to load obstacle tile: " + path);
             }
         }
         
@@ -119,121 +119,48 @@ public class Background implements Serializable {
         return cellPatterns.get(key);
     }
 
-    public boolean isValidMove(double dx, double dy, int playerHeight) {
-        // Calculate future position
-        double newOffsetX = offsetX + dx;
-        double newOffsetY = offsetY + dy;
-                
-        // Get the screen dimensions from the GamePanel class
-        int screenWidth = GameFrame.WIDTH;
-        int screenHeight = GameFrame.HEIGHT - StatPanel.HEIGHT;
-        
-        // Calculate center of screen (where player is)
-        int screenCenterX = screenWidth / 2;
-        int screenCenterY = screenHeight / 2 + playerHeight / 4;
-        
-        // Calculate the world coordinates of the player's center after movement
-        double playerWorldX = screenCenterX + newOffsetX;
-        double playerWorldY = screenCenterY + newOffsetY;
-        
-        // Convert to cell coordinates
-        int centerCellX = (int)Math.floor(playerWorldX / TILE_SIZE);
-        int centerCellY = (int)Math.floor(playerWorldY / TILE_SIZE);
-        
-        // Store for debug visualization
-        checkedCellX = centerCellX;
-        checkedCellY = centerCellY;
-        
-        // Check if this cell contains an obstacle
-        String key = centerCellX + "," + centerCellY;
-        if (cellPatterns.containsKey(key)) {
-            int tileIndex = cellPatterns.get(key);
-            boolean isObstacle = obstacleTileIndices.contains(tileIndex);
-            lastMoveBlocked = isObstacle;
-            return !isObstacle;
-        }
-        
-        // If cell doesn't exist yet, it's a new cell - allow movement
-        lastMoveBlocked = false;
-        return true;
+    // Entities meet the map at their feet, a quarter of their height below the centre
+    private static double footY(double y, int height) {
+        return y + height * 3 / 4.0;
+    }
+
+    private boolean isOpenAt(double worldX, double worldY) {
+        return !isObstacleCell((int)Math.floor(worldX / TILE_SIZE), (int)Math.floor(worldY / TILE_SIZE));
+    }
+
+    // Player movement check; also remembers the cell for the debug overlay
+    public boolean isValidMove(Entity player, double dx, double dy) {
+        double footX = player.x + dx + player.width / 2.0;
+        double footY = footY(player.y + dy, player.height);
+        checkedCellX = (int)Math.floor(footX / TILE_SIZE);
+        checkedCellY = (int)Math.floor(footY / TILE_SIZE);
+        lastMoveBlocked = isObstacleCell(checkedCellX, checkedCellY);
+        return !lastMoveBlocked;
     }
     
     public boolean isValidMoveForEntity(double entityX, double entityY, double dx, double dy, int entityWidth, int entityHeight) {
-        // Calculate future position
-        double newX = entityX + dx;
-        double newY = entityY + dy;
-        
-        // Calculate the world coordinates of the entity's center after movement
-        double entityWorldCenterX = newX + entityWidth/2 + offsetX;
-        double entityWorldCenterY = newY + entityHeight/2 + offsetY + 32;
-        
-        // Convert to cell coordinates
-        int centerCellX = (int)Math.floor(entityWorldCenterX / TILE_SIZE);
-        int centerCellY = (int)Math.floor(entityWorldCenterY / TILE_SIZE);
-        
-        // Check if this cell contains an obstacle
-        String key = centerCellX + "," + centerCellY;
-        if (cellPatterns.containsKey(key)) {
-            int tileIndex = cellPatterns.get(key);
-            boolean isObstacle = obstacleTileIndices.contains(tileIndex);
-            return !isObstacle;
-        }
-        
-        // If cell doesn't exist yet, it's a new cell - allow movement
-        return true;
+        return isOpenAt(entityX + dx + entityWidth / 2.0, footY(entityY + dy, entityHeight));
     }
 
-    public boolean isValidSpawnPosition(double x, double y, int width, int height) {
-        // Calculate the world coordinates of the entity's center
-        double entityWorldCenterX = x + width/2 + offsetX;
-        double entityWorldCenterY = y + height/2 + offsetY + 32; // Same offset as in isValidMoveForEntity
-        
-        // Convert to cell coordinates
-        int centerCellX = (int)Math.floor(entityWorldCenterX / TILE_SIZE);
-        int centerCellY = (int)Math.floor(entityWorldCenterY / TILE_SIZE);
-        
-        // Check if this cell contains an obstacle
-        String key = centerCellX + "," + centerCellY;
-        if (cellPatterns.containsKey(key)) {
-            int tileIndex = cellPatterns.get(key);
-            boolean isObstacle = obstacleTileIndices.contains(tileIndex);
-            return !isObstacle; // Return true if NOT an obstacle
-        }
-        
-        // If cell doesn't exist yet, it's a new cell - allow spawning
-        return true;
+    // Cells that haven't been generated yet count as open, same as for movement
+    public boolean isObstacleCell(int cellX, int cellY) {
+        Integer tileIndex = cellPatterns.get(cellX + "," + cellY);
+        return tileIndex != null && obstacleTileIndices.contains(tileIndex);
     }
 
-    public boolean update(double dx, double dy, int playerHeight) {
-        if (!isValidMove(dx, dy, playerHeight)) {
-            return false;
-        }
-        
-        offsetX += dx;
-        offsetY += dy;
-        boolean limitMapSize = false;
-
-        if (!limitMapSize) {
-            return true;
-        }
-
-        // Limit the map size by removing cells that are too far away
-        if (Math.abs(offsetX) > TILE_SIZE * 50 || Math.abs(offsetY) > TILE_SIZE * 50) {
-            // Reset offset and map when too far from origin
-            offsetX = offsetX % TILE_SIZE;
-            offsetY = offsetY % TILE_SIZE;
-            cellPatterns.clear();
-        }
-        
-        return true;
+    public boolean isValidSpawnPosition(double x, double y, int width, int height) {
+        return isOpenAt(x + width / 2.0, footY(y, height));
     }
-    
-    public void draw(Graphics2D g2d, int width, int height, Player player) {
+
+    public void draw(Graphics2D g2d, int width, int height, Player player, Camera camera, double alpha) {
         if (tileImages.isEmpty()) return;
         
+        double drawOffsetX = camera.getRenderX(alpha);
+        double drawOffsetY = camera.getRenderY(alpha);
+        
         // Calculate visible range
-        int startCellX = (int)Math.floor(offsetX / TILE_SIZE) - 1;
-        int startCellY = (int)Math.floor(offsetY / TILE_SIZE) - 1;
+        int startCellX = (int)Math.floor(drawOffsetX / TILE_SIZE) - 1;
+        int startCellY = (int)Math.floor(drawOffsetY / TILE_SIZE) - 1;
         int endCellX = startCellX + (width / TILE_SIZE) + 2;
         int endCellY = startCellY + (height / TILE_SIZE) + 2;
         
@@ -243,8 +170,8 @@ public class Background implements Serializable {
                 int tileIndex = getTileForCell(cellX, cellY);
                 BufferedImage tile = tileImages.get(tileIndex);
                 
-                int drawX = (int)((cellX * TILE_SIZE) - offsetX);
-                int drawY = (int)((cellY * TILE_SIZE) - offsetY);
+                int drawX = (int)((cellX * TILE_SIZE) - drawOffsetX);
+                int drawY = (int)((cellY * TILE_SIZE) - drawOffsetY);
                 
                 g2d.drawImage(tile, drawX, drawY, TILE_SIZE, TILE_SIZE, null);
                 
@@ -278,8 +205,8 @@ public class Background implements Serializable {
             g2d.fillOval(screenCenterX - 5, screenCenterY - 5, 10, 10);
             
             // Draw the cell being checked for collision
-            int cellDrawX = (int)((checkedCellX * TILE_SIZE) - offsetX);
-            int cellDrawY = (int)((checkedCellY * TILE_SIZE) - offsetY);
+            int cellDrawX = (int)((checkedCellX * TILE_SIZE) - drawOffsetX);
+            int cellDrawY = (int)((checkedCellY * TILE_SIZE) - drawOffsetY);
             
             g2d.setStroke(new BasicStroke(2));
             if (lastMoveBlocked) {
@@ -292,39 +219,28 @@ public class Background implements Serializable {
             // Draw offset and other debug info
             g2d.setColor(Color.WHITE);
             g2d.setFont(new Font("Arial", Font.BOLD, 12));
-            g2d.drawString("Offset: " + String.format("%.1f, %.1f", offsetX, offsetY), 10, 20);
+            int playerScreenX = (int)(player.getRenderX(alpha) - drawOffsetX);
+            int playerScreenY = (int)(player.getRenderY(alpha) - drawOffsetY);
+            g2d.drawString("Camera: " + String.format("%.1f, %.1f", camera.getX(), camera.getY()), 10, 20);
             g2d.drawString("Player Cell: " + checkedCellX + "," + checkedCellY, 10, 40);
-            g2d.drawString("Player Screen Position: " + String.format("%.1f, %.1f", player.x, player.y), 10, 60);
-            g2d.drawString("Player World Position: " + String.format("%.1f, %.1f", player.x - offsetX, player.y - offsetY), 10, 80);
+            g2d.drawString("Player Screen Position: " + playerScreenX + ", " + playerScreenY, 10, 60);
+            g2d.drawString("Player World Position: " + String.format("%.1f, %.1f", player.x, player.y), 10, 80);
             
             // Draw player hitbox
             g2d.setStroke(new BasicStroke(1));
             g2d.setColor(new Color(0, 255, 255, 150)); // Cyan for player hitbox
-            g2d.drawRect((int)player.x, (int)player.y, player.width, player.height);
+            g2d.drawRect(playerScreenX, playerScreenY, player.width, player.height);
         }
     }
     
-    public double getOffsetX() {
+    public double getLegacyOffsetX() {
         return offsetX;
     }
     
-    public double getOffsetY() {
+    public double getLegacyOffsetY() {
         return offsetY;
     }
 
-    public int getCellXFromScreenPos(int screenX) {
-        return (int)Math.floor((screenX + offsetX) / TILE_SIZE);
-    }
-    
-    public int getCellYFromScreenPos(int screenY) {
-        return (int)Math.floor((screenY + offsetY) / TILE_SIZE);
-    }
-    
-    public void setOffset(double x, double y) {
-        this.offsetX = x;
-        this.offsetY = y;
-    }
-
     private void writeObject(ObjectOutputStream out) throws IOException {
         out.defaultWriteObject();
     }
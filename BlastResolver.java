@@ -0,0 +1,82 @@
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+// Resolves an explosion and every acid burst it sets off. Blasts are handled a generation at a time:
+// all damage from one generation is summed per zombie and applied in a single pass, and the acidic
+// zombies it kills become the next generation, so chain reactions never recurse
+public class BlastResolver {
+    private static class Blast {
+        final double x;
+        final double y;
+        final double radius;
+
+        Blast(double x, double y, double radius) {
+            this.x = x;
+            this.y = y;
+            this.radius = radius;
+        }
+    }
+
+    private final SpatialGrid<Zombie> zombieGrid;
+    private final EntityRegistry world;
+    private final TickScheduler scheduler;
+    private final Consumer<Zombie> onKill;
+
+    private List<Blast> generation = new ArrayList<>();
+    private List<Blast> nextGeneration = new ArrayList<>();
+    private final List<Zombie> inRange = new ArrayList<>();
+    // Keeps the order zombies were first reached, so kills and loot rolls stay deterministic
+    private final Map<Zombie, Double> pendingDamage = new LinkedHashMap<>();
+
+    public BlastResolver(SpatialGrid<Zombie> zombieGrid, EntityRegistry world, TickScheduler scheduler,
+                         Consumer<Zombie> onKill) {
+        this.zombieGrid = zombieGrid;
+        this.world = world;
+        this.scheduler = scheduler;
+        this.onKill = onKill;
+    }
+
+    // Damages everything within the radius of the origin. Zombies already in the killed set are
+    // skipped; anything this kills is passed to the kill callback, which adds it to the set
+    public void resolve(Zombie origin, double radius, double damage, Set<Zombie> killed) {
+        generation.clear();
+        generation.add(new Blast(origin.getCenterX(), origin.getCenterY(), radius));
+
+        while (!generation.isEmpty()) {
+            pendingDamage.clear();
+            for (Blast blast : generation) {
+                inRange.clear();
+                zombieGrid.queryRadius(blast.x, blast.y, blast.radius, inRange);
+                for (Zombie zombie : inRange) {
+                    if (!killed.contains(zombie)) {
+                        pendingDamage.merge(zombie, damage, Double::sum);
+                    }
+                }
+            }
+
+            nextGeneration.clear();
+            for (Map.Entry<Zombie, Double> entry : pendingDamage.entrySet()) {
+                Zombie zombie = entry.getKey();
+                zombie.health -= entry.getValue();
+                zombie.startFlashEffect(scheduler);
+                if (zombie.health <= 0) {
+                    onKill.accept(zombie);
+                    // Dead zombies are never damaged again, so each acidic zombie bursts at most once
+                    Components.AcidAttack acid = world.getComponent(zombie, Components.AcidAttack.class);
+                    if (acid != null) {
+                        nextGeneration.add(new Blast(zombie.getCenterX(), zombie.getCenterY(), acid.blastRadius));
+                    }
+                }
+            }
+
+            List<Blast> swap = generation;
+            generation = nextGeneration;
+            nextGeneration = swap;
+        }
+        pendingDamage.clear();
+    }
+}
@@ -1,11 +1,16 @@
 import java.io.File;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
-import java.awt.Rectangle;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
 
 public class Bullet extends Entity {
     public int bulletSize = 100;
-    protected ArrayList<Zombie> hitZombies = new ArrayList<Zombie>();
+    // Handles of the zombies this bullet already went through, so a piercing round hits each once.
+    // Handles are handed out again when a save loads, so they aren't saved
+    private transient int[] hitHandles = new int[4];
+    private transient int hitCount = 0;
     protected boolean isZombieBullet = false;
     protected double damage = 0;
     protected Weapon sourceWeapon;
@@ -46,7 +51,7 @@ public class Bullet extends Entity {
         }
         
         public static void returnBullet(Bullet bullet) {
-            bullet.hitZombies.clear();
+            bullet.hitCount = 0;
             availableBullets.add(bullet);
         }
         
@@ -59,7 +64,7 @@ public class Bullet extends Entity {
         this.sourceWeapon = sourceWeapon;
         this.isZombieBullet = false;
         this.damage = 0;
-        this.hitZombies.clear();
+        this.hitCount = 0;
         
         // Update appearance based on weapon type
         if (sourceWeapon instanceof Pistol) {
@@ -87,10 +92,50 @@ public class Bullet extends Entity {
         this.width = bulletSize;
         this.height = bulletSize;
         this.moveSpeed = GameInfo.BULLET_SPEED;
+        // A recycled bullet must not blend from where it was last fired
+        this.hasPreviousPosition = false;
         
         setImage(new File(appearanceImagePath));
     }
 
+    // Every bullet flies; what it does on a hit comes from the weapon that fired it
+    @Override
+    protected Object[] createComponents() {
+        Object[] weaponComponents = sourceWeapon != null ? sourceWeapon.createBulletComponents() : NO_COMPONENTS;
+        Object[] components = Arrays.copyOf(weaponComponents, weaponComponents.length + 1);
+        components[weaponComponents.length] = new Components.Projectile();
+        return components;
+    }
+
+    public boolean hasHit(Zombie zombie) {
+        for (int i = 0; i < hitCount; i++) {
+            if (hitHandles[i] == zombie.handle) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public void markHit(Zombie zombie, EntityRegistry world) {
+        if (hitHandles == null) {
+            hitHandles = new int[4];
+        }
+        if (hitCount == hitHandles.length) {
+            // Forget zombies that have died since, before making room for more
+            int kept = 0;
+            for (int i = 0; i < hitCount; i++) {
+                if (world.isAlive(hitHandles[i])) {
+                    hitHandles[kept++] = hitHandles[i];
+                }
+            }
+            hitCount = kept;
+            if (hitCount == hitHandles.length) {
+                hitHandles = Arrays.copyOf(hitHandles, hitCount * 2);
+            }
+        }
+        hitHandles[hitCount++] = zombie.handle;
+    }
+
     public double getDamage() {
         if (isZombieBullet) {
             return damage;
@@ -114,11 +159,38 @@ public class Bullet extends Entity {
         return isZombieBullet;
     }
 
-    public Rectangle getBounds() {
-        int reducedWidth = width / 2;
-        int reducedHeight = height / 2;
-        int centerX = (int)x + (width - reducedWidth) / 2;
-        int centerY = (int)y + (height - reducedHeight) / 2;
-        return new Rectangle(centerX, centerY, reducedWidth, reducedHeight);
+    // Draw rotated around the center using a pre-rotated sprite, no per-bullet transform
+    public boolean drawRotated(Graphics2D g2d, double alpha) {
+        AtlasRegion sprite = getSpriteRegion(width, height);
+        if (sprite == null) {
+            return false;
+        }
+        BufferedImage rotated = RotatedSpriteCache.get(sprite, rotation);
+        double centerX = getRenderX(alpha) + width / 2;
+        double centerY = getRenderY(alpha) + height / 2;
+        g2d.drawImage(rotated, (int)(centerX - rotated.getWidth() / 2.0),
+                      (int)(centerY - rotated.getHeight() / 2.0), null);
+        return true;
+    }
+
+    // Hit box is the middle half of the sprite
+    @Override
+    public double getHitX() {
+        return (int)x + (width - getHitWidth()) / 2;
+    }
+
+    @Override
+    public double getHitY() {
+        return (int)y + (height - getHitHeight()) / 2;
+    }
+
+    @Override
+    public int getHitWidth() {
+        return width / 2;
+    }
+
+    @Override
+    public int getHitHeight() {
+        return height / 2;
     }
 }
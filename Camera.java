@@ -0,0 +1,72 @@
+// The part of the world on screen. Entities keep world coordinates and the camera follows the player,
+// so a player step moves one point instead of everything else; the renderer and the background
+// subtract the camera position when they draw
+public class Camera {
+    private final int width;
+    private final int height;
+    private double x = 0;
+    private double y = 0;
+    // Position at the start of the last tick, so frames can be drawn between ticks
+    private double previousX = 0;
+    private double previousY = 0;
+
+    public Camera(int width, int height) {
+        this.width = width;
+        this.height = height;
+    }
+
+    // Centre the view on the entity
+    public void follow(Entity target) {
+        x = target.getCenterX() - width / 2;
+        y = target.getCenterY() - height / 2;
+    }
+
+    // Jump straight to the entity without blending from the old position, e.g. after a load
+    public void snapTo(Entity target) {
+        follow(target);
+        savePreviousPosition();
+    }
+
+    public void setPosition(double x, double y) {
+        this.x = x;
+        this.y = y;
+        savePreviousPosition();
+    }
+
+    public void savePreviousPosition() {
+        previousX = x;
+        previousY = y;
+    }
+
+    public double getX() {
+        return x;
+    }
+
+    public double getY() {
+        return y;
+    }
+
+    public double getRenderX(double alpha) {
+        return previousX + (x - previousX) * alpha;
+    }
+
+    public double getRenderY(double alpha) {
+        return previousY + (y - previousY) * alpha;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    public double toScreenX(double worldX) {
+        return worldX - x;
+    }
+
+    public double toScreenY(double worldY) {
+        return worldY - y;
+    }
+}
@@ -6,7 +6,6 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Scanner;
 import java.util.regex.Pattern;
-import javax.imageio.ImageIO;
 
 public class CharacterSelectionPanel extends JPanel {
     private GameInfo gameInfo;
@@ -145,16 +144,14 @@ public class CharacterSelectionPanel extends JPanel {
                         name.toLowerCase().endsWith(".png"));
                     
                     if (walkingFiles != null && walkingFiles.length > 0) {
-                        BufferedImage characterImg = ImageIO.read(walkingFiles[0]);
-                        characterOptions.add(new CharacterOption(characterNum, characterImg, characterName));
+                        characterOptions.add(new CharacterOption(characterNum, walkingFiles[0].getPath(), characterName));
                     } else {
                         // Try looking for any png in the character folder 
                         File[] files = characterDir.listFiles((dir, name) -> 
                             name.toLowerCase().endsWith(".png"));
                         
                         if (files != null && files.length > 0) {
-                            BufferedImage characterImg = ImageIO.read(files[0]);
-                            characterOptions.add(new CharacterOption(characterNum, characterImg, characterName));
+                            characterOptions.add(new CharacterOption(characterNum, files[0].getPath(), characterName));
                         }
                     }
                 }
@@ -232,9 +229,10 @@ public class CharacterSelectionPanel extends JPanel {
             g.setColor(Color.WHITE);
             g.drawString(characterName, textX, textY);
             
-            if (currentOption.image != null) {
-                int origWidth = currentOption.image.getWidth();
-                int origHeight = currentOption.image.getHeight();
+            BufferedImage characterImage = ImageCache.get(currentOption.imagePath);
+            if (characterImage != null) {
+                int origWidth = characterImage.getWidth();
+                int origHeight = characterImage.getHeight();
                 
                 int newWidth, newHeight;
                 
@@ -249,7 +247,7 @@ public class CharacterSelectionPanel extends JPanel {
                 int imgX = GameFrame.WIDTH/2 - newWidth/2;
                 int imgY = GameFrame.HEIGHT/2 - newHeight/2;
                 
-                g.drawImage(currentOption.image, imgX, imgY, newWidth, newHeight, null);
+                g.drawImage(characterImage, imgX, imgY, newWidth, newHeight, null);
             }
         } else {
             // Display a message if no characters were found
@@ -313,14 +311,16 @@ public class CharacterSelectionPanel extends JPanel {
         }
     }
     
+    // Only the preview's path is kept; the image comes from the cache when drawn, by which time
+    // the asset preloader has decoded it off the Swing thread
     private static class CharacterOption {
         int id;
-        BufferedImage image;
+        String imagePath;
         String name;
         
-        CharacterOption(int id, BufferedImage image, String name) {
+        CharacterOption(int id, String imagePath, String name) {
             this.id = id;
-            this.image = image;
+            this.imagePath = imagePath;
             this.name = name;
         }
     }
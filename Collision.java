@@ -0,0 +1,68 @@
+// Hit tests shared by the simulation
+public class Collision {
+    public static final double MISS = -1;
+
+    private Collision() {
+    }
+
+    // Hit boxes overlap by more than an edge, same as Rectangle.intersects but without building rectangles
+    public static boolean overlaps(Entity a, Entity b) {
+        double aX = a.getHitX();
+        double aY = a.getHitY();
+        double bX = b.getHitX();
+        double bY = b.getHitY();
+        return aX < bX + b.getHitWidth() && bX < aX + a.getHitWidth()
+            && aY < bY + b.getHitHeight() && bY < aY + a.getHitHeight();
+    }
+
+    // Sweeps a box of the given half size along a segment against a target box. Returns the fraction
+    // of the segment travelled when they first touch, 0 if they already overlap, or MISS
+    public static double sweep(double x0, double y0, double x1, double y1, double halfWidth, double halfHeight,
+                               Entity target) {
+        // Grow the target by the moving box, then it's a plain segment against box test
+        double minX = target.getHitX() - halfWidth;
+        double minY = target.getHitY() - halfHeight;
+        double maxX = target.getHitX() + target.getHitWidth() + halfWidth;
+        double maxY = target.getHitY() + target.getHitHeight() + halfHeight;
+
+        double entry = 0;
+        double exit = 1;
+
+        double dx = x1 - x0;
+        if (dx == 0) {
+            if (x0 <= minX || x0 >= maxX) {
+                return MISS;
+            }
+        } else {
+            double near = (minX - x0) / dx;
+            double far = (maxX - x0) / dx;
+            if (near > far) {
+                double swap = near;
+                near = far;
+                far = swap;
+            }
+            entry = Math.max(entry, near);
+            exit = Math.min(exit, far);
+        }
+
+        double dy = y1 - y0;
+        if (dy == 0) {
+            if (y0 <= minY || y0 >= maxY) {
+                return MISS;
+            }
+        } else {
+            double near = (minY - y0) / dy;
+            double far = (maxY - y0) / dy;
+            if (near > far) {
+                double swap = near;
+                near = far;
+                far = swap;
+            }
+            entry = Math.max(entry, near);
+            exit = Math.min(exit, far);
+        }
+
+        // Just grazing an edge doesn't count, same as Rectangle.intersects
+        return entry < exit ? entry : MISS;
+    }
+}
@@ -0,0 +1,100 @@
+// Plain data that entities spawn with, see Entity.createComponents. The systems hold the behaviour,
+// so a new zombie or weapon type is a new combination of these, or a new component and system,
+// rather than another branch in the simulation
+public final class Components {
+    private Components() {
+    }
+
+    // Bites the player when in range
+    public static class Melee {
+    }
+
+    // Dashes straight at the player on a cooldown instead of walking
+    public static class Jump {
+        protected final long cooldown;
+        // How far one jump goes, and how close the player has to be to start one
+        protected final double range;
+        protected final double triggerDistance;
+        // Multiplies the walking speed while jumping
+        protected final double speedFactor;
+        protected boolean active = false;
+        protected double directionX;
+        protected double directionY;
+        protected double distanceTraveled;
+        // -1 until the jump system first sees the entity, which starts the cooldown from that tick
+        protected long lastJumpTime = -1;
+
+        public Jump(long cooldown, double range, double triggerDistance, double speedFactor) {
+            this.cooldown = cooldown;
+            this.range = range;
+            this.triggerDistance = triggerDistance;
+            this.speedFactor = speedFactor;
+        }
+    }
+
+    // Spits acid at the player instead of biting, and bursts over nearby zombies when killed
+    public static class AcidAttack {
+        protected final int blastRadius;
+        protected final String bulletImagePath;
+        protected final int bulletSize;
+        // Multiplies the speed of a freshly fired bullet
+        protected final double bulletSpeedFactor;
+        protected final String firingSoundPath;
+
+        public AcidAttack(int blastRadius, String bulletImagePath, int bulletSize, double bulletSpeedFactor,
+                          String firingSoundPath) {
+            this.blastRadius = blastRadius;
+            this.bulletImagePath = bulletImagePath;
+            this.bulletSize = bulletSize;
+            this.bulletSpeedFactor = bulletSpeedFactor;
+            this.firingSoundPath = firingSoundPath;
+        }
+    }
+
+    // Flies in a straight line every tick and is dropped once it leaves the view
+    public static class Projectile {
+        // Centre before this tick's step, so hits can be swept along the whole move
+        protected double startX;
+        protected double startY;
+        // Set once it has left the view or hit something; it leaves the world at the end of the tick
+        protected boolean spent = false;
+    }
+
+    // Blows up on the first zombie it hits
+    public static class Explosive {
+        protected final double radius;
+        protected final String hitSoundPath;
+
+        public Explosive(double radius, String hitSoundPath) {
+            this.radius = radius;
+            this.hitSoundPath = hitSoundPath;
+        }
+    }
+
+    // Keeps going through zombies instead of stopping at the first
+    public static class Piercing {
+    }
+
+    public static class HealthPickup {
+        protected final int amount;
+
+        public HealthPickup(int amount) {
+            this.amount = amount;
+        }
+    }
+
+    // Ammo for whichever of the player's weapons is the same kind as the given one
+    public static class AmmoPickup {
+        protected final Weapon weapon;
+        protected final int amount;
+
+        public AmmoPickup(Weapon weapon, int amount) {
+            this.weapon = weapon;
+            this.amount = amount;
+        }
+    }
+
+    // Steps through its frames each tick and leaves the world when it finishes
+    public static class Playback {
+    }
+}
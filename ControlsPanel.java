@@ -146,7 +146,9 @@ public class ControlsPanel extends JPanel {
         mainPanel.add(createSectionPanel("Game Controls", new String[][]{
             {"pause", "Pause Game"},
             {"toggleFPS", "Toggle FPS Display"},
-            {"debug", "Toggle Debug Mode"}
+            {"toggleRenderMode", "Toggle Active Rendering"},
+            {"debug", "Toggle Debug Mode"},
+            {"gameSpeed", "Cycle Game Speed"}
         }), gbc);
         
         // Audio Controls section
@@ -280,7 +282,7 @@ public class ControlsPanel extends JPanel {
         audioPanel.setBackground(new Color(50, 50, 50));
 
         // Title
-        JLabel titleLabel = new JLabel("Audio Settings");
+        JLabel titleLabel = new JLabel("Audio & Display Settings");
         titleLabel.setFont(new Font("Arial", Font.BOLD, 26));
         titleLabel.setForeground(Color.YELLOW);
         titleLabel.setBorder(BorderFactory.createEmptyBorder(0, 0, 10, 0));
@@ -357,8 +359,45 @@ public class ControlsPanel extends JPanel {
         });
         sfxVolumePanel.add(sfxVolumeSlider, BorderLayout.CENTER);
 
+        // Frame rate slider row
+        JPanel frameRatePanel = new JPanel();
+        frameRatePanel.setLayout(new BorderLayout(10, 0));
+        frameRatePanel.setBackground(new Color(50, 50, 50));
+
+        JLabel frameRateLabel = new JLabel("Frame Rate:");
+        frameRateLabel.setFont(new Font("Arial", Font.BOLD, 18));
+        frameRateLabel.setForeground(Color.WHITE);
+        frameRatePanel.add(frameRateLabel, BorderLayout.WEST);
+
+        JLabel frameRateValueLabel = new JLabel(String.valueOf(gameInfo.targetFPS));
+        frameRateValueLabel.setFont(new Font("Courier New", Font.BOLD, 18));
+        frameRateValueLabel.setForeground(Color.WHITE);
+        frameRateValueLabel.setPreferredSize(new Dimension(50, 30));
+        frameRatePanel.add(frameRateValueLabel, BorderLayout.EAST);
+
+        JSlider frameRateSlider = new JSlider(JSlider.HORIZONTAL, FramePacer.MIN_FPS, FramePacer.MAX_FPS, gameInfo.targetFPS);
+        frameRateSlider.setMajorTickSpacing(30);
+        frameRateSlider.setMinorTickSpacing(6);
+        frameRateSlider.setPaintTicks(true);
+        frameRateSlider.setBackground(new Color(50, 50, 50));
+        frameRateSlider.setForeground(Color.WHITE);
+        frameRateSlider.addChangeListener(e -> {
+            int value = frameRateSlider.getValue();
+            gameInfo.targetFPS = value;
+            frameRateValueLabel.setText(String.valueOf(value));
+            if (gameInfo.gamePanel != null) {
+                gameInfo.gamePanel.updateFrameRate();
+            }
+            // Write once the slider is released, not on every step of the drag
+            if (!frameRateSlider.getValueIsAdjusting()) {
+                gameInfo.saveSettings();
+            }
+        });
+        frameRatePanel.add(frameRateSlider, BorderLayout.CENTER);
+
         controlsPanel.add(musicVolumePanel);
         controlsPanel.add(sfxVolumePanel);
+        controlsPanel.add(frameRatePanel);
         audioPanel.add(controlsPanel, BorderLayout.CENTER);
 
         return audioPanel;
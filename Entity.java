@@ -1,12 +1,9 @@
+import java.awt.Graphics2D;
 import java.awt.image.BufferedImage;
 import java.io.File;
 import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.Serializable;
-import java.util.ArrayList;
-import java.util.List;
-import javax.imageio.ImageIO;
-import java.awt.Rectangle;
 
 public class Entity implements Serializable {
     private static final long serialVersionUID = 1L;
@@ -19,22 +16,35 @@ public class Entity implements Serializable {
     protected int width = 32;
     protected int height = 32;
     protected transient BufferedImage image;
+    protected transient AtlasRegion region;
+    protected transient String spritePath;
+    // Position at the start of the last tick, so frames can be drawn between ticks
+    protected transient double previousX;
+    protected transient double previousY;
+    protected transient boolean hasPreviousPosition = false;
     protected double rotation = 0;
-    protected boolean isFlashing = false;
-    protected long flashStartTime = 0;
+    // Cleared by a scheduled expiry, so a loaded game never starts mid-flash
+    protected transient boolean isFlashing = false;
+    protected transient TickScheduler.Task flashExpiry;
     protected double moveSpeed;
     protected static final long FLASH_DURATION = 150;
+    protected static final Object[] NO_COMPONENTS = new Object[0];
 
-    protected static List<Entity> entities = new ArrayList<>();
+    // Set while the entity is registered with the world, see EntityRegistry
+    protected transient int handle = EntityRegistry.NO_HANDLE;
 
     public Entity() {
-        entities.add(this);
     }
 
     public Entity(double x, double y) {
         this.x = x;
         this.y = y;
-        entities.add(this);
+    }
+
+    // Data the registry stores for this entity while it is in the world; systems act on these.
+    // Called on every spawn, so a loaded game starts with fresh components
+    protected Object[] createComponents() {
+        return NO_COMPONENTS;
     }
 
     public void calculatePreservedRatio() {
@@ -49,27 +59,80 @@ public class Entity implements Serializable {
     }
 
     public void setImage(File imageFile) {
-        try {
-            BufferedImage originalImage = ImageIO.read(imageFile);
-            this.image = originalImage;
+        // Images are decoded once and shared through the cache
+        BufferedImage cachedImage = ImageCache.get(imageFile);
+        if (cachedImage != null) {
+            this.image = cachedImage;
+            this.spritePath = imageFile.getPath();
             calculatePreservedRatio();
-        } catch (Exception e) {
-            System.out.println("Failed to load image: " + image);
-            e.printStackTrace();
+            this.region = TextureAtlas.getRegion(spritePath, width, height);
         }
     }
 
     public void setImage(BufferedImage image) {
         this.image = image;
+        this.region = null;
+        this.spritePath = null;
         calculatePreservedRatio();
     }
 
+    // Draw from the texture atlas when the sprite was packed, otherwise from the image itself
+    public void drawSprite(Graphics2D g2d, int drawX, int drawY, int drawWidth, int drawHeight) {
+        AtlasRegion region = getSpriteRegion(drawWidth, drawHeight);
+        if (region != null) {
+            region.draw(g2d, drawX, drawY, drawWidth, drawHeight);
+        } else {
+            g2d.drawImage(image, drawX, drawY, drawWidth, drawHeight, null);
+        }
+    }
+
+    // Atlas region pre-scaled to the draw size, re-resolved only when the size changes
+    protected AtlasRegion getSpriteRegion(int drawWidth, int drawHeight) {
+        if (spritePath == null) {
+            return region;
+        }
+        if (region == null || region.getWidth() != drawWidth || region.getHeight() != drawHeight) {
+            AtlasRegion scaled = TextureAtlas.getRegion(spritePath, drawWidth, drawHeight);
+            if (scaled != null) {
+                region = scaled;
+            }
+        }
+        return region;
+    }
+
+    public void savePreviousPosition() {
+        previousX = x;
+        previousY = y;
+        hasPreviousPosition = true;
+    }
+
+    // Blend the last two ticks; alpha 0 is the previous tick and 1 the current one
+    public double getRenderX(double alpha) {
+        return hasPreviousPosition ? previousX + (x - previousX) * alpha : x;
+    }
+
+    public double getRenderY(double alpha) {
+        return hasPreviousPosition ? previousY + (y - previousY) * alpha : y;
+    }
+
     public void setTargetWidth(int width) {
         this.width = width;
         calculatePreservedRatio();
     }
-    public Rectangle getBounds() {
-        return new Rectangle((int)x, (int)y, width, height);
+
+    // Hit box as plain numbers, worked out from the current position so collision checks allocate nothing.
+    // Subclasses shrink it to the visible body
+    public double getHitX() {
+        return x;
+    }
+    public double getHitY() {
+        return y;
+    }
+    public int getHitWidth() {
+        return width;
+    }
+    public int getHitHeight() {
+        return height;
     }
     public double getCenterX() {
         return x + width / 2;
@@ -86,26 +149,22 @@ public class Entity implements Serializable {
         in.defaultReadObject();
         // Reload the image
         loadImage();
-        if (!entities.contains(this)) {
-            entities.add(this);
-        }
     }
     
     // Check if entity should be drawn with flash effect
     public boolean isFlashing() {
-        if (!isFlashing) return false;
-        
-        long currentTime = System.currentTimeMillis();
-        if (currentTime - flashStartTime > FLASH_DURATION) {
-            isFlashing = false;
-            return false;
-        }
-        return true;
+        return isFlashing;
     }
     
-    // Trigger flash effect
-    public void startFlashEffect() {
+    // Trigger flash effect; a new hit restarts the timer instead of stacking expiries
+    public void startFlashEffect(TickScheduler scheduler) {
         isFlashing = true;
-        flashStartTime = System.currentTimeMillis();
+        if (flashExpiry != null) {
+            flashExpiry.cancel();
+        }
+        flashExpiry = scheduler.schedule(FLASH_DURATION, () -> {
+            isFlashing = false;
+            flashExpiry = null;
+        });
     }
 }
\ No newline at end of file
@@ -0,0 +1,272 @@
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Everything currently alive in the world. Entities are registered when they spawn and removed
+// when they despawn, so nothing outlives the game it belongs to. Each registration gets a
+// generational handle: once an entity despawns its old handle stops resolving, even after
+// the slot is reused. The components an entity spawns with decide its archetype, and systems
+// find their entities through queries over those archetypes
+public class EntityRegistry {
+    public static final int NO_HANDLE = 0;
+    // Low bits pick the slot, the rest count how many times that slot has been reused
+    private static final int INDEX_BITS = 20;
+    private static final int INDEX_MASK = (1 << INDEX_BITS) - 1;
+    private static final int MAX_GENERATION = (1 << (31 - INDEX_BITS)) - 1;
+    private static final int MAX_COMPONENT_TYPES = 64;
+
+    // Every component type gets a bit, in the order they are first seen
+    private static final Map<Class<?>, Integer> componentBits = new HashMap<>();
+
+    private Entity[] slots = new Entity[256];
+    private int[] generations = new int[256];
+    // Where each slot's entity sits in the packed live array
+    private int[] liveIndex = new int[256];
+    // Which archetype holds each slot's components, and at which row
+    private Archetype[] archetypeOf = new Archetype[256];
+    private int[] archetypeRow = new int[256];
+    private int slotCount = 0;
+    private int[] freeSlots = new int[256];
+    private int freeCount = 0;
+
+    // Live entities packed together, so iterating costs the live count and not every slot ever used
+    private Entity[] live = new Entity[256];
+    private int liveCount = 0;
+
+    private final Map<Class<?>, Integer> liveCounts = new HashMap<>();
+
+    private final Map<Long, Archetype> archetypesByMask = new HashMap<>();
+    // In creation order, so a query only has to look at the ones added since it last ran
+    private final List<Archetype> archetypes = new ArrayList<>();
+
+    // The archetypes holding every one of a set of component types. Archetypes are never dropped,
+    // so the match list only grows, and only when a new combination of components first spawns
+    public class Query {
+        private final long required;
+        private final List<Archetype> matches = new ArrayList<>();
+        private int checked = 0;
+
+        private Query(long required) {
+            this.required = required;
+        }
+
+        // Index through the result; anything spawned mid-loop lands in an archetype already listed
+        // or is appended at the end
+        public List<Archetype> archetypes() {
+            for (; checked < archetypes.size(); checked++) {
+                Archetype archetype = archetypes.get(checked);
+                if ((archetype.mask & required) == required) {
+                    matches.add(archetype);
+                }
+            }
+            return matches;
+        }
+    }
+
+    public Query query(Class<?>... types) {
+        long required = 0;
+        for (Class<?> type : types) {
+            required |= bitOf(type);
+        }
+        return new Query(required);
+    }
+
+    // Returns the entity's handle; registering a live entity again keeps its handle.
+    // The entity's components are created now and live in the registry until it despawns
+    public int spawn(Entity entity) {
+        if (isAlive(entity.handle) && slots[entity.handle & INDEX_MASK] == entity) {
+            return entity.handle;
+        }
+
+        int slot;
+        if (freeCount > 0) {
+            slot = freeSlots[--freeCount];
+        } else {
+            if (slotCount > INDEX_MASK) {
+                throw new IllegalStateException("Too many live entities: " + slotCount);
+            }
+            slot = slotCount++;
+            ensureSlotCapacity(slotCount);
+            generations[slot] = 1;
+        }
+
+        slots[slot] = entity;
+        entity.handle = generations[slot] << INDEX_BITS | slot;
+
+        if (liveCount == live.length) {
+            Entity[] grown = new Entity[live.length * 2];
+            System.arraycopy(live, 0, grown, 0, liveCount);
+            live = grown;
+        }
+        liveIndex[slot] = liveCount;
+        live[liveCount++] = entity;
+
+        Object[] components = entity.createComponents();
+        Archetype archetype = archetypeFor(components);
+        archetypeOf[slot] = archetype;
+        archetypeRow[slot] = archetype.add(entity, components);
+
+        liveCounts.merge(entity.getClass(), 1, Integer::sum);
+        return entity.handle;
+    }
+
+    // Removes the entity from the world; despawning something that isn't registered does nothing
+    public void despawn(Entity entity) {
+        int handle = entity.handle;
+        if (!isAlive(handle) || slots[handle & INDEX_MASK] != entity) {
+            return;
+        }
+        int slot = handle & INDEX_MASK;
+
+        // Fill the gap in the live array with the last entry
+        int index = liveIndex[slot];
+        Entity last = live[--liveCount];
+        live[index] = last;
+        liveIndex[last.handle & INDEX_MASK] = index;
+        live[liveCount] = null;
+
+        Entity movedRow = archetypeOf[slot].remove(archetypeRow[slot]);
+        if (movedRow != null) {
+            archetypeRow[movedRow.handle & INDEX_MASK] = archetypeRow[slot];
+        }
+        archetypeOf[slot] = null;
+
+        slots[slot] = null;
+        generations[slot] = generations[slot] == MAX_GENERATION ? 1 : generations[slot] + 1;
+        freeSlots[freeCount++] = slot;
+        entity.handle = NO_HANDLE;
+
+        liveCounts.merge(entity.getClass(), -1, Integer::sum);
+    }
+
+    public boolean isAlive(int handle) {
+        if (handle == NO_HANDLE) {
+            return false;
+        }
+        int slot = handle & INDEX_MASK;
+        return slot < slotCount && slots[slot] != null && generations[slot] == handle >>> INDEX_BITS;
+    }
+
+    // The entity's component of the type, or null if it has none or isn't alive
+    public <T> T getComponent(Entity entity, Class<T> type) {
+        int handle = entity.handle;
+        if (!isAlive(handle) || slots[handle & INDEX_MASK] != entity) {
+            return null;
+        }
+        int slot = handle & INDEX_MASK;
+        Object[] column = archetypeOf[slot].column(type);
+        return column == null ? null : type.cast(column[archetypeRow[slot]]);
+    }
+
+    public int size() {
+        return liveCount;
+    }
+
+    // Live entity at a position in the packed array, for index loops that don't allocate an iterator
+    public Entity getLive(int index) {
+        return live[index];
+    }
+
+    // Live entities of the type, subclasses included
+    public int getLiveCount(Class<? extends Entity> type) {
+        int count = 0;
+        for (Map.Entry<Class<?>, Integer> entry : liveCounts.entrySet()) {
+            if (type.isAssignableFrom(entry.getKey())) {
+                count += entry.getValue();
+            }
+        }
+        return count;
+    }
+
+    public void clear() {
+        for (int i = 0; i < liveCount; i++) {
+            Entity entity = live[i];
+            int slot = entity.handle & INDEX_MASK;
+            slots[slot] = null;
+            generations[slot] = generations[slot] == MAX_GENERATION ? 1 : generations[slot] + 1;
+            freeSlots[freeCount++] = slot;
+            entity.handle = NO_HANDLE;
+            archetypeOf[slot] = null;
+            live[i] = null;
+        }
+        liveCount = 0;
+        liveCounts.clear();
+        // Keep the archetypes themselves, queries hold on to them
+        for (Archetype archetype : archetypes) {
+            archetype.clear();
+        }
+    }
+
+    // Finds or creates the archetype for a set of components, and puts the components in its column order
+    private Archetype archetypeFor(Object[] components) {
+        long mask = 0;
+        for (Object component : components) {
+            long bit = bitOf(component.getClass());
+            if ((mask & bit) != 0) {
+                throw new IllegalArgumentException("Duplicate component: " + component.getClass().getSimpleName());
+            }
+            mask |= bit;
+        }
+        // Insertion sort by bit, an entity only has a few components
+        for (int i = 1; i < components.length; i++) {
+            Object component = components[i];
+            long bit = bitOf(component.getClass());
+            int j = i;
+            while (j > 0 && bitOf(components[j - 1].getClass()) > bit) {
+                components[j] = components[j - 1];
+                j--;
+            }
+            components[j] = component;
+        }
+
+        Archetype archetype = archetypesByMask.get(mask);
+        if (archetype == null) {
+            Class<?>[] types = new Class<?>[components.length];
+            for (int i = 0; i < components.length; i++) {
+                types[i] = components[i].getClass();
+            }
+            archetype = new Archetype(mask, types);
+            archetypesByMask.put(mask, archetype);
+            archetypes.add(archetype);
+        }
+        return archetype;
+    }
+
+    private static long bitOf(Class<?> type) {
+        Integer bit = componentBits.get(type);
+        if (bit == null) {
+            if (componentBits.size() == MAX_COMPONENT_TYPES) {
+                throw new IllegalStateException("Too many component types: " + type.getSimpleName());
+            }
+            bit = componentBits.size();
+            componentBits.put(type, bit);
+        }
+        return 1L << bit;
+    }
+
+    private void ensureSlotCapacity(int capacity) {
+        if (capacity <= slots.length) {
+            return;
+        }
+        int length = Math.max(capacity, slots.length * 2);
+        Entity[] grownSlots = new Entity[length];
+        System.arraycopy(slots, 0, grownSlots, 0, slots.length);
+        slots = grownSlots;
+        int[] grownGenerations = new int[length];
+        System.arraycopy(generations, 0, grownGenerations, 0, generations.length);
+        generations = grownGenerations;
+        int[] grownLiveIndex = new int[length];
+        System.arraycopy(liveIndex, 0, grownLiveIndex, 0, liveIndex.length);
+        liveIndex = grownLiveIndex;
+        Archetype[] grownArchetypeOf = new Archetype[length];
+        System.arraycopy(archetypeOf, 0, grownArchetypeOf, 0, archetypeOf.length);
+        archetypeOf = grownArchetypeOf;
+        int[] grownArchetypeRow = new int[length];
+        System.arraycopy(archetypeRow, 0, grownArchetypeRow, 0, archetypeRow.length);
+        archetypeRow = grownArchetypeRow;
+        int[] grownFreeSlots = new int[length];
+        System.arraycopy(freeSlots, 0, grownFreeSlots, 0, freeSlots.length);
+        freeSlots = grownFreeSlots;
+    }
+}
@@ -0,0 +1,59 @@
+// Holds frames to a target rate using nanosecond deadlines: sleep most of the wait, spin the rest
+public class FramePacer {
+    public static final int MIN_FPS = 30;
+    public static final int MAX_FPS = 360;
+    // Sleep can overshoot by a millisecond or more, so the last stretch is spent yielding
+    private static final long SPIN_THRESHOLD_NANOS = 2_000_000L;
+
+    private final FrameTimeStats stats = new FrameTimeStats();
+    private volatile int targetFPS;
+    private volatile long frameNanos;
+    private long nextDeadline;
+
+    public FramePacer(int targetFPS) {
+        setTargetFPS(targetFPS);
+    }
+
+    public void setTargetFPS(int targetFPS) {
+        this.targetFPS = Math.max(MIN_FPS, Math.min(MAX_FPS, targetFPS));
+        this.frameNanos = 1_000_000_000L / this.targetFPS;
+    }
+
+    public int getTargetFPS() {
+        return targetFPS;
+    }
+
+    // Start a fresh schedule, e.g. after the loop was paused
+    public void reset() {
+        nextDeadline = System.nanoTime() + frameNanos;
+        stats.reset();
+    }
+
+    // Blocks until the current frame's deadline, then schedules the next one
+    public void awaitNextFrame() throws InterruptedException {
+        long deadline = nextDeadline;
+        long remaining = deadline - System.nanoTime();
+
+        while (remaining > SPIN_THRESHOLD_NANOS) {
+            long sleepNanos = remaining - SPIN_THRESHOLD_NANOS;
+            Thread.sleep(sleepNanos / 1_000_000L, (int)(sleepNanos % 1_000_000L));
+            remaining = deadline - System.nanoTime();
+        }
+        while (deadline - System.nanoTime() > 0) {
+            // Yield rather than busy-wait so the EDT still gets time on small machines
+            Thread.yield();
+        }
+
+        long now = System.nanoTime();
+        stats.recordFrame(now);
+        nextDeadline = deadline + frameNanos;
+        if (nextDeadline - now <= 0) {
+            // A whole frame behind already, don't try to make up the lost frames
+            nextDeadline = now + frameNanos;
+        }
+    }
+
+    public FrameTimeStats getStats() {
+        return stats;
+    }
+}
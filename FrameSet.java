@@ -0,0 +1,115 @@
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Immutable, preloaded animation frames shared by every Animation that plays them
+public final class FrameSet {
+    public static final String RPG_EXPLOSION = "RPGExplosion";
+    public static final String ACIDIC_ZOMBIE_EXPLOSION = "AcidicZombieExplosion";
+
+    private static final Map<String, String> namedDirectories = new HashMap<>();
+    private static final Map<String, FrameSet> loadedSets = new ConcurrentHashMap<>();
+
+    static {
+        namedDirectories.put(RPG_EXPLOSION, "assets/Explosion/RPG");
+        namedDirectories.put(ACIDIC_ZOMBIE_EXPLOSION, "assets/Explosion/AcidicZombie");
+    }
+
+    private final String directory;
+    private final List<BufferedImage> frames;
+
+    private FrameSet(String directory, List<BufferedImage> frames) {
+        this.directory = directory;
+        this.frames = Collections.unmodifiableList(frames);
+    }
+
+    // Look up a frame set by its registered name, e.g. FrameSet.get("RPGExplosion")
+    public static FrameSet get(String name) {
+        String directory = namedDirectories.get(name);
+        if (directory == null) {
+            System.err.println("Unknown frame set: " + name);
+            return forDirectory(name);
+        }
+        return forDirectory(directory);
+    }
+
+    public static FrameSet forDirectory(String directory) {
+        String key = new File(directory).getPath();
+        FrameSet frameSet = loadedSets.get(key);
+        if (frameSet != null) {
+            return frameSet;
+        }
+        return loadedSets.computeIfAbsent(key, FrameSet::load);
+    }
+
+    public static FrameSet of(List<BufferedImage> frames) {
+        return new FrameSet(null, new ArrayList<>(frames));
+    }
+
+    // Load every named frame set up front so the first explosion doesn't hit the disk
+    public static void preloadAll() {
+        for (String directory : namedDirectories.values()) {
+            forDirectory(directory);
+        }
+    }
+
+    public static String[] getRegisteredNames() {
+        return namedDirectories.keySet().toArray(new String[0]);
+    }
+
+    private static FrameSet load(String directory) {
+        List<BufferedImage> frames = new ArrayList<>();
+        File dir = new File(directory);
+
+        if (!dir.exists() || !dir.isDirectory()) {
+            System.err.println("Animation directory not found: " + directory);
+            return new FrameSet(directory, frames);
+        }
+
+        // Get all PNG files in the directory
+        File[] files = dir.listFiles((d, name) -> name.toLowerCase().endsWith(".png"));
+
+        if (files == null || files.length == 0) {
+            System.err.println("No frames found in: " + directory);
+            return new FrameSet(directory, frames);
+        }
+
+        java.util.Arrays.sort(files, (f1, f2) -> f1.getName().compareTo(f2.getName()));
+
+        for (File file : files) {
+            BufferedImage frame = ImageCache.get(file);
+            if (frame != null) {
+                frames.add(frame);
+            } else {
+                System.err.println("Error loading frame: " + file.getName());
+            }
+        }
+
+        return new FrameSet(directory, frames);
+    }
+
+    public BufferedImage getFrame(int index) {
+        return frames.get(index);
+    }
+
+    public List<BufferedImage> getFrames() {
+        return frames;
+    }
+
+    public int size() {
+        return frames.size();
+    }
+
+    public boolean isEmpty() {
+        return frames.isEmpty();
+    }
+
+    public String getDirectory() {
+        return directory;
+    }
+}
@@ -0,0 +1,66 @@
+import java.util.Arrays;
+
+// Rolling window of recent frame-to-frame intervals, for comparing how steady each render path is
+public class FrameTimeStats {
+    private static final int WINDOW = 240;
+
+    private final long[] intervals = new long[WINDOW];
+    private int count = 0;
+    private int next = 0;
+    private long lastFrameTime = 0;
+
+    // Call once per presented frame
+    public void recordFrame() {
+        recordFrame(System.nanoTime());
+    }
+
+    public synchronized void recordFrame(long now) {
+        if (lastFrameTime != 0) {
+            intervals[next] = now - lastFrameTime;
+            next = (next + 1) % WINDOW;
+            count = Math.min(count + 1, WINDOW);
+        }
+        lastFrameTime = now;
+    }
+
+    public synchronized void reset() {
+        count = 0;
+        next = 0;
+        lastFrameTime = 0;
+    }
+
+    public synchronized double getMeanMs() {
+        if (count == 0) {
+            return 0;
+        }
+        long total = 0;
+        for (int i = 0; i < count; i++) {
+            total += intervals[i];
+        }
+        return total / (double)count / 1_000_000.0;
+    }
+
+    public synchronized double getStdDevMs() {
+        if (count < 2) {
+            return 0;
+        }
+        double mean = getMeanMs();
+        double sumSquares = 0;
+        for (int i = 0; i < count; i++) {
+            double deviation = intervals[i] / 1_000_000.0 - mean;
+            sumSquares += deviation * deviation;
+        }
+        return Math.sqrt(sumSquares / (count - 1));
+    }
+
+    // Nearest-rank percentile of the window, e.g. 99 for p99
+    public synchronized double getPercentileMs(double percentile) {
+        if (count == 0) {
+            return 0;
+        }
+        long[] sorted = Arrays.copyOf(intervals, count);
+        Arrays.sort(sorted);
+        int rank = (int)Math.ceil(percentile / 100.0 * count);
+        return sorted[Math.max(0, Math.min(count - 1, rank - 1))] / 1_000_000.0;
+    }
+}
@@ -0,0 +1,25 @@
+// Game time in milliseconds, advanced once per simulation tick so it stands still while paused
+public class GameClock {
+    private long tickCount = 0;
+    private long nowMs = 0;
+
+    public void tick() {
+        tickCount++;
+        nowMs = tickCount * 1000L / GameLoop.TICKS_PER_SECOND;
+    }
+
+    // Sampled once per tick by the simulation and passed down to entity updates
+    public long now() {
+        return nowMs;
+    }
+
+    public long getTickCount() {
+        return tickCount;
+    }
+
+    // Restore the time a saved game was at, so its cooldown timestamps stay meaningful
+    public void set(long timeMs) {
+        tickCount = timeMs * GameLoop.TICKS_PER_SECOND / 1000L;
+        nowMs = timeMs;
+    }
+}
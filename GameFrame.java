@@ -1,5 +1,6 @@
 import javax.swing.JFrame;
 import javax.swing.JLayeredPane;
+import javax.swing.SwingUtilities;
 import java.awt.Dimension;
 
 public class GameFrame extends JFrame {
@@ -15,9 +16,31 @@ public class GameFrame extends JFrame {
         JLayeredPane layeredPane = new JLayeredPane();
         layeredPane.setPreferredSize(new Dimension(WIDTH, HEIGHT));
 
-        // Create game components
+        // Start decoding before anything else reads an asset; the main menu shows the progress
+        AssetPreloader preloader = AssetPreloader.start(AssetManifest.createDefault());
+
+        // Only the main menu is needed while assets load
         GameInfo gameInfo = new GameInfo();
 
+        MainMenuPanel mainMenuPanel = new MainMenuPanel(gameInfo);
+        gameInfo.mainMenuPanel = mainMenuPanel;
+        mainMenuPanel.setBounds(0, 0, WIDTH, HEIGHT);
+        layeredPane.add(mainMenuPanel, JLayeredPane.MODAL_LAYER);
+
+        // The game screen is built from the cache once everything is decoded
+        preloader.whenDone(() -> SwingUtilities.invokeLater(() -> createGameScreen(gameInfo, layeredPane)));
+
+        add(layeredPane);
+
+        pack();
+        setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
+        setLocationRelativeTo(null);
+        setVisible(true);
+    }
+
+    private void createGameScreen(GameInfo gameInfo, JLayeredPane layeredPane) {
+        gameInfo.createPlayer();
+
         StatPanel statPanel = new StatPanel(gameInfo);
         gameInfo.statPanel = statPanel;
 
@@ -27,9 +50,6 @@ public class GameFrame extends JFrame {
         GameOverPanel gameOverPanel = new GameOverPanel(gameInfo);
         gameInfo.gameOverPanel = gameOverPanel;
 
-        MainMenuPanel mainMenuPanel = new MainMenuPanel(gameInfo);
-        gameInfo.mainMenuPanel = mainMenuPanel;
-
         PauseGamePanel pauseGamePanel = new PauseGamePanel(gameInfo);
         gameInfo.pauseGamePanel = pauseGamePanel;
 
@@ -37,21 +57,14 @@ public class GameFrame extends JFrame {
         gamePanel.setBounds(0, StatPanel.HEIGHT, WIDTH, HEIGHT - StatPanel.HEIGHT);
         statPanel.setBounds(0, 0, WIDTH, StatPanel.HEIGHT);
         gameOverPanel.setBounds(0, 0, WIDTH, HEIGHT);
-        mainMenuPanel.setBounds(0, 0, WIDTH, HEIGHT);
         pauseGamePanel.setBounds(0, 0, WIDTH, HEIGHT);
 
-        // Add panels to layered pane with different depths
+        // Add panels to layered pane with different depths; the game over screen goes above the menu
         layeredPane.add(gamePanel, JLayeredPane.DEFAULT_LAYER);
         layeredPane.add(statPanel, JLayeredPane.PALETTE_LAYER);
-        layeredPane.add(gameOverPanel, JLayeredPane.MODAL_LAYER);
-        layeredPane.add(mainMenuPanel, JLayeredPane.MODAL_LAYER);
+        layeredPane.add(gameOverPanel, JLayeredPane.MODAL_LAYER, 0);
         layeredPane.add(pauseGamePanel, JLayeredPane.POPUP_LAYER);
-
-        add(layeredPane);
-
-        pack();
-        setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
-        setLocationRelativeTo(null);
-        setVisible(true);
+        layeredPane.revalidate();
+        layeredPane.repaint();
     }
-}
\ No newline at end of file
+}
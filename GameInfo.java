@@ -1,15 +1,7 @@
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 
-import javax.imageio.ImageIO;
-import javax.sound.sampled.AudioInputStream;
-import javax.sound.sampled.AudioSystem;
-import javax.sound.sampled.Clip;
-import javax.sound.sampled.FloatControl;
-import javax.sound.sampled.LineEvent;
-import javax.sound.sampled.LineUnavailableException;
-import javax.sound.sampled.UnsupportedAudioFileException;
-import javax.swing.Timer;
 import java.io.*;
 import java.util.HashMap;
 import java.awt.Image;
@@ -41,10 +33,13 @@ public class GameInfo {
     protected static final float BULLET_SPEED = 20.0f;
     protected static final String BACKGROUND_IMAGE_PATH = "assets/Backgrounds/menu_background.png";
     protected static final String BACKGROUND_MUSIC_PATH = "assets/Musics/";
+    private static volatile boolean soundEnabled = true;
 
     protected Player player;
     protected StatPanel statPanel;
     protected GamePanel gamePanel;
+    protected Simulation simulation;
+    protected final GameClock clock = new GameClock();
     protected GameOverPanel gameOverPanel;
     protected MainMenuPanel mainMenuPanel;
     protected PauseGamePanel pauseGamePanel;
@@ -52,8 +47,11 @@ public class GameInfo {
     protected List<Bullet> bullets = new ArrayList<>();
     protected List<Drop> drops = new ArrayList<>();
     protected List<Animation> animations = new ArrayList<>();
-    protected Timer gameTimer;
-    protected Timer zombieSpawnTimer;
+    // Lifecycle of everything in the lists above; add and remove through the methods below
+    protected final EntityRegistry world = new EntityRegistry();
+    // Column copy of the zombie list that the simulation's movement and attack pass runs over
+    protected final ZombieStore zombieStore = new ZombieStore();
+    protected GameLoop gameLoop;
     protected HashMap<String, Integer> keyBindings = new HashMap<>();
     protected Image backgroundImage;
 
@@ -63,10 +61,20 @@ public class GameInfo {
     protected int zombiesSpawned = 0;
     protected int selectedCharacter = 1;
     protected boolean isPaused = false;
+    // Draw through a page-flipped canvas instead of Swing repaints
+    protected boolean activeRendering = false;
+    protected int targetFPS = 120;
 
     public GameInfo() {
-        startBackgroundMusic();
-        player = new Player(0, 0, selectedCharacter);
+        this(true);
+    }
+
+    // Headless runs pass false so no audio device is touched
+    public GameInfo(boolean withAudio) {
+        soundEnabled = withAudio;
+        if (withAudio) {
+            startBackgroundMusic();
+        }
 
         setDifficulty(GameDifficulty.NORMAL);
 
@@ -83,10 +91,11 @@ public class GameInfo {
         keyBindings.put("pause", KeyEvent.VK_ESCAPE);
         keyBindings.put("toggleFPS", KeyEvent.VK_F1);
         keyBindings.put("debug", KeyEvent.VK_F3);
+        keyBindings.put("toggleRenderMode", KeyEvent.VK_F2);
+        keyBindings.put("gameSpeed", KeyEvent.VK_F4);
 
-        try {
-            backgroundImage = ImageIO.read(new File(BACKGROUND_IMAGE_PATH));
-        } catch (IOException e) {
+        backgroundImage = ImageCache.get(BACKGROUND_IMAGE_PATH);
+        if (backgroundImage == null) {
             System.err.println("Could not load background image: " + BACKGROUND_IMAGE_PATH);
         }
         
@@ -94,6 +103,11 @@ public class GameInfo {
         loadSettings();
     }
 
+    // Kept out of the constructor, which runs on the Swing thread before the player's images are preloaded
+    public void createPlayer() {
+        player = new Player(0, 0, selectedCharacter);
+    }
+
     public void updateZombiesRemaining(int count) {
         if (statPanel != null) {
             statPanel.update();
@@ -127,6 +141,7 @@ public class GameInfo {
             
             for (Zombie zombie : zombies) {
                 zombie.moveSpeed *= HARD_ZOMBIE_SPEED_MULTIPLIER / NORMAL_ZOMBIE_SPEED_MULTIPLIER;
+                zombieStore.refresh(zombie);
             }
             
             if (player != null) {
@@ -142,6 +157,7 @@ public class GameInfo {
             
             for (Zombie zombie : zombies) {
                 zombie.moveSpeed *= NORMAL_ZOMBIE_SPEED_MULTIPLIER / HARD_ZOMBIE_SPEED_MULTIPLIER;
+                zombieStore.refresh(zombie);
             }
             
             if (player != null) {
@@ -150,21 +166,101 @@ public class GameInfo {
                 }
             }
         }
-        
-        // Update the timer if it exists
-        if (zombieSpawnTimer != null) {
-            zombieSpawnTimer.setDelay(currentZombieSpawnRate);
-        }
     }
 
     public void addZombie(Zombie zombie) {
         zombies.add(zombie);
+        world.spawn(zombie);
+        zombieStore.add(zombie);
         zombiesSpawned++;
         updateZombiesRemaining(zombies.size());
     }
     
     public void addDrop(Drop drop) {
         drops.add(drop);
+        world.spawn(drop);
+    }
+
+    public void addBullet(Bullet bullet) {
+        bullets.add(bullet);
+        world.spawn(bullet);
+    }
+
+    public void addAnimation(Animation animation) {
+        animations.add(animation);
+        world.spawn(animation);
+    }
+
+    // Despawns the given entities and drops them from their lists in one pass per list.
+    // Most ticks remove nothing, and then these don't even create an iterator
+    public void removeZombies(Collection<Zombie> removed) {
+        if (removed.isEmpty()) {
+            return;
+        }
+        for (Zombie zombie : removed) {
+            world.despawn(zombie);
+            zombieStore.remove(zombie);
+        }
+        zombies.removeAll(removed);
+    }
+
+    public void removeDrops(Collection<Drop> removed) {
+        if (removed.isEmpty()) {
+            return;
+        }
+        for (Drop drop : removed) {
+            world.despawn(drop);
+        }
+        drops.removeAll(removed);
+    }
+
+    public void removeAnimations(Collection<Animation> removed) {
+        if (removed.isEmpty()) {
+            return;
+        }
+        for (Animation animation : removed) {
+            world.despawn(animation);
+        }
+        animations.removeAll(removed);
+    }
+
+    // Despawned bullets go back to the pool to be fired again under a new handle
+    public void removeBullets(Collection<Bullet> removed) {
+        if (removed.isEmpty()) {
+            return;
+        }
+        for (Bullet bullet : removed) {
+            world.despawn(bullet);
+            Bullet.Pool.returnBullet(bullet);
+        }
+        bullets.removeAll(removed);
+    }
+
+    // Screen positions from an old save plus the background scroll at the time give world positions
+    private void toWorldCoordinates(double offsetX, double offsetY) {
+        player.x += offsetX;
+        player.y += offsetY;
+        for (Zombie zombie : zombies) {
+            zombie.x += offsetX;
+            zombie.y += offsetY;
+        }
+        for (Bullet bullet : bullets) {
+            bullet.x += offsetX;
+            bullet.y += offsetY;
+        }
+        for (Drop drop : drops) {
+            drop.x += offsetX;
+            drop.y += offsetY;
+        }
+    }
+
+    private void clearWorld() {
+        world.clear();
+        zombieStore.clear();
+        zombies.clear();
+        bullets.clear();
+        drops.clear();
+        animations.clear();
     }
 
     public void showGameOver() {
@@ -179,11 +275,8 @@ public class GameInfo {
     }
     
     public void restartGame() {
-        if (gameTimer != null && gameTimer.isRunning()) {
-            gameTimer.stop();
-        }
-        if (zombieSpawnTimer != null && zombieSpawnTimer.isRunning()) {
-            zombieSpawnTimer.stop();
+        if (gameLoop != null && gameLoop.isRunning()) {
+            gameLoop.stop();
         }
         if (currentDifficulty == GameDifficulty.HARD) {
             currentZombieSpeedMultiplier = HARD_ZOMBIE_SPEED_MULTIPLIER;
@@ -194,13 +287,9 @@ public class GameInfo {
         isPaused = false;
 
         player = new Player(0, 0, selectedCharacter);
-        gamePanel.centerplayer();
-
-        gamePanel.moveUp = false;
-        gamePanel.moveDown = false;
-        gamePanel.moveLeft = false;
-        gamePanel.moveRight = false;
-        gamePanel.leftMousePressed = false;
+        simulation.restart();
+        simulation.centerPlayer();
+        simulation.clearInput();
 
         player.weapons.clear();
         player.weapons.add(new Pistol());
@@ -220,9 +309,7 @@ public class GameInfo {
         zombiesKilled = 0;
         zombiesSpawned = 0;
         zombiesKilledLastWave = 0;
-        zombies.clear();
-        bullets.clear();
-        drops.clear();
+        clearWorld();
         player.health = Player.PLAYER_HEALTH;
 
         if (statPanel != null) {
@@ -231,14 +318,8 @@ public class GameInfo {
         
         gameOverPanel.setVisible(false);
 
-        if (!gameTimer.isRunning()) {
-            gameTimer.start();
-        }
-        if (!zombieSpawnTimer.isRunning()) {
-            zombieSpawnTimer.start();
-        }
-        if (zombieSpawnTimer != null) {
-            zombieSpawnTimer.setDelay(currentZombieSpawnRate);
+        if (!gameLoop.isRunning()) {
+            gameLoop.start();
         }
     }
 
@@ -266,10 +347,12 @@ public class GameInfo {
             state.zombiesSpawned = this.zombiesSpawned;
             state.zombiesKilledLastWave = this.zombiesKilledLastWave;
             state.difficulty = this.currentDifficulty;
+            state.gameTimeMs = clock.now();
+            state.worldCoordinates = true;
             
             // Save background itself instead of just the offset
-            if (gamePanel != null && gamePanel.background != null) {
-                state.background = gamePanel.background;
+            if (simulation != null && simulation.background != null) {
+                state.background = simulation.background;
             }
             
             out.writeObject(state);
@@ -299,11 +382,8 @@ public class GameInfo {
             fileIn.close();
             
             // Stop any running timers
-            if (gameTimer != null && gameTimer.isRunning()) {
-                gameTimer.stop();
-            }
-            if (zombieSpawnTimer != null && zombieSpawnTimer.isRunning()) {
-                zombieSpawnTimer.stop();
+            if (gameLoop != null && gameLoop.isRunning()) {
+                gameLoop.stop();
             }
             
             // Restore game state
@@ -313,22 +393,26 @@ public class GameInfo {
             
             // Ensure the player has its images loaded
             this.player.loadImage();
-            this.gamePanel.centerplayer();
             
             // Clear and restore entities
-            this.zombies.clear();
-            this.zombies.addAll(state.zombies);
-
-            this.bullets.clear();
-            this.bullets.addAll(state.bullets);
-            
-            this.drops.clear();
-            this.drops.addAll(state.drops);
+            clearWorld();
+            for (Zombie zombie : state.zombies) {
+                this.zombies.add(zombie);
+                world.spawn(zombie);
+            }
+            for (Bullet bullet : state.bullets) {
+                addBullet(bullet);
+            }
+            for (Drop drop : state.drops) {
+                addDrop(drop);
+            }
             
             this.zombiesKilled = state.zombiesKilled;
             this.zombiesSpawned = state.zombiesSpawned;
             this.zombiesKilledLastWave = state.zombiesKilledLastWave;
             this.currentDifficulty = state.difficulty;
+            // Saves from before the game clock stored wall-clock timestamps
+            clock.set(state.gameTimeMs > 0 ? state.gameTimeMs : System.currentTimeMillis());
 
             if (this.currentDifficulty == GameDifficulty.HARD) {
                 this.currentZombieSpeedMultiplier = HARD_ZOMBIE_SPEED_MULTIPLIER;
@@ -343,8 +427,17 @@ public class GameInfo {
             }
             
             // Restore background
-            if (gamePanel != null && state.background != null) {
-                gamePanel.background = state.background;
+            if (simulation != null && state.background != null) {
+                simulation.background = state.background;
+                if (!state.worldCoordinates) {
+                    toWorldCoordinates(state.background.getLegacyOffsetX(), state.background.getLegacyOffsetY());
+                }
+            }
+            simulation.camera.snapTo(player);
+
+            // Positions and speeds are final now, so the store can copy them
+            for (Zombie zombie : this.zombies) {
+                zombieStore.add(zombie);
             }
             
             // Update UI
@@ -352,9 +445,12 @@ public class GameInfo {
                 statPanel.update();
             }
             
-            // Start the timers
-            gameTimer.start();
-            zombieSpawnTimer.start();
+            // Pending reloads and spawns were not saved, so start them again from the restored clock
+            simulation.restart();
+            simulation.resumeReloads();
+
+            // Start the game loop
+            gameLoop.start();
 
             isPaused = false;
             gamePanel.requestFocus();
@@ -382,6 +478,8 @@ public class GameInfo {
             allSettings.put("keyBindings", keyBindings);
             allSettings.put("musicVolume", MusicPlayer.getMusicVolume());
             allSettings.put("sfxVolume", MusicPlayer.getSfxVolume());
+            allSettings.put("activeRendering", activeRendering);
+            allSettings.put("targetFPS", targetFPS);
     
             // Save all settings
             out.writeObject(allSettings);
@@ -415,7 +513,8 @@ public class GameInfo {
             if (allSettings != null) {
                 // Load key bindings
                 if (allSettings.containsKey("keyBindings")) {
-                    keyBindings = (HashMap<String, Integer>) allSettings.get("keyBindings");
+                    // Merge so actions added since the file was saved keep their defaults
+                    keyBindings.putAll((HashMap<String, Integer>) allSettings.get("keyBindings"));
                 }
                 
                 // Load music volume
@@ -429,6 +528,15 @@ public class GameInfo {
                     float savedVolume = (Float) allSettings.get("sfxVolume");
                     MusicPlayer.setSfxVolume(savedVolume);
                 }
+
+                if (allSettings.containsKey("activeRendering")) {
+                    activeRendering = (Boolean) allSettings.get("activeRendering");
+                }
+
+                if (allSettings.containsKey("targetFPS")) {
+                    int savedFPS = (Integer) allSettings.get("targetFPS");
+                    targetFPS = Math.max(FramePacer.MIN_FPS, Math.min(FramePacer.MAX_FPS, savedFPS));
+                }
                 
                 return true;
             }
@@ -462,52 +570,15 @@ public class GameInfo {
         int zombiesKilledLastWave;
         Background background;
         GameDifficulty difficulty;
+        long gameTimeMs;
+        // Older saves kept everything in screen space and scrolled the background instead
+        boolean worldCoordinates;
     }
 
     public static void playSound(String soundPath) {
-        if (soundPath != null) {
-            new Thread(() -> {
-                AudioInputStream audioStream = null;
-                Clip clip = null;
-                try {
-                    audioStream = AudioSystem.getAudioInputStream(new File(soundPath));
-                    clip = AudioSystem.getClip();
-                    clip.open(audioStream);
-
-                    FloatControl gainControl = (FloatControl) clip.getControl(FloatControl.Type.MASTER_GAIN);
-                    if (gainControl != null) {
-                        float dB = (float) (Math.log(MusicPlayer.getSfxVolume()) / Math.log(10.0) * 20.0);
-                        gainControl.setValue(dB);
-                    }
-
-                    // Add a listener to close resources when playback completes
-                    final Clip finalClip = clip;
-                    final AudioInputStream finalStream = audioStream;
-                    clip.addLineListener(event -> {
-                        if (event.getType() == LineEvent.Type.STOP) {
-                            finalClip.close();
-                            try {
-                                finalStream.close();
-                            } catch (IOException e) {
-                                System.err.println("Error closing audio stream: " + e.getMessage());
-                            }
-                        }
-                    });
-                    
-                    clip.start();
-                } catch (UnsupportedAudioFileException | IOException | LineUnavailableException e) {
-                    System.err.println("Error playing sound: " + e.getMessage());
-                    // Clean up resources in case of error
-                    if (clip != null) clip.close();
-                    if (audioStream != null) {
-                        try {
-                            audioStream.close();
-                        } catch (IOException ex) {
-                            System.err.println("Error closing audio stream: " + ex.getMessage());
-                        }
-                    }
-                }
-            }).start();
+        // Queued for the sound effect voices, never blocks the caller
+        if (soundEnabled) {
+            SoundEffects.play(soundPath);
         }
     }
     
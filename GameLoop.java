@@ -0,0 +1,118 @@
+// Steps the simulation at a fixed rate on its own thread and asks for frames in between
+public class GameLoop implements Runnable {
+    public static final int TICKS_PER_SECOND = 120;
+    public static final long TICK_NANOS = 1_000_000_000L / TICKS_PER_SECOND;
+    // After a long stall, drop the backlog instead of fast-forwarding through it
+    private static final int MAX_CATCH_UP_TICKS = 8;
+
+    private final Runnable tick;
+    private final Runnable render;
+    // Held while a tick runs; the renderer takes it so it never sees a half-updated world
+    private final Object lock = new Object();
+
+    private volatile boolean running = false;
+    private volatile long lastTickTime;
+    // Real time between ticks; shorter than TICK_NANOS when fast-forwarding
+    private volatile long tickInterval = TICK_NANOS;
+    private volatile double timeScale = 1.0;
+    private final FramePacer pacer;
+    private volatile Thread thread;
+
+    public GameLoop(Runnable tick, Runnable render, int targetFPS) {
+        this.tick = tick;
+        this.render = render;
+        this.pacer = new FramePacer(targetFPS);
+    }
+
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        lastTickTime = System.nanoTime();
+        pacer.reset();
+        thread = new Thread(this, "GameLoop");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    // Waits for the current tick to finish unless called from inside the loop itself
+    public void stop() {
+        Thread loopThread;
+        synchronized (this) {
+            running = false;
+            loopThread = thread;
+            thread = null;
+        }
+        if (loopThread != null && loopThread != Thread.currentThread()) {
+            try {
+                loopThread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    public boolean isRunning() {
+        return running;
+    }
+
+    public Object getLock() {
+        return lock;
+    }
+
+    public void setTargetFPS(int targetFPS) {
+        pacer.setTargetFPS(targetFPS);
+    }
+
+    // 2.0 runs the game twice as fast; every tick still advances game time by the same step
+    public void setTimeScale(double timeScale) {
+        this.timeScale = Math.max(0.1, timeScale);
+        this.tickInterval = (long)(TICK_NANOS / this.timeScale);
+    }
+
+    public double getTimeScale() {
+        return timeScale;
+    }
+
+    public FramePacer getPacer() {
+        return pacer;
+    }
+
+    // How far the current time is between the last tick and the next one, from 0 to 1
+    public double getInterpolation() {
+        if (!running) {
+            return 1.0;
+        }
+        double alpha = (double)(System.nanoTime() - lastTickTime) / tickInterval;
+        return Math.max(0.0, Math.min(1.0, alpha));
+    }
+
+    @Override
+    public void run() {
+        // A restart replaces the thread, so an old loop that is still winding down exits here
+        while (running && thread == Thread.currentThread()) {
+            long now = System.nanoTime();
+            long interval = tickInterval;
+            int steps = 0;
+            while (running && now - lastTickTime >= interval && steps < MAX_CATCH_UP_TICKS) {
+                synchronized (lock) {
+                    tick.run();
+                }
+                lastTickTime += interval;
+                steps++;
+            }
+            if (now - lastTickTime >= interval) {
+                lastTickTime = now;
+            }
+
+            render.run();
+
+            try {
+                pacer.awaitNextFrame();
+            } catch (InterruptedException e) {
+                return;
+            }
+        }
+    }
+}
@@ -1,10 +1,7 @@
 import javax.swing.JPanel;
-import javax.swing.Timer;
-import java.awt.event.ActionEvent;
+import javax.swing.SwingUtilities;
 import java.awt.Graphics;
 import java.awt.Graphics2D;
-import java.awt.color.ColorSpace;
-import java.awt.event.ActionListener;
 import java.awt.event.KeyAdapter;
 import java.awt.event.KeyEvent;
 import java.awt.event.MouseAdapter;
@@ -12,47 +9,30 @@ import java.awt.event.MouseEvent;
 import java.awt.event.MouseMotionAdapter;
 import java.awt.geom.AffineTransform;
 import java.awt.image.BufferedImage;
-import java.awt.image.ColorConvertOp;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Random;
 import java.awt.Dimension;
 import java.awt.Font;
-import java.awt.AlphaComposite;
 import java.awt.Color;
 import java.awt.RenderingHints;
 import java.awt.BasicStroke;
 
-public class GamePanel extends JPanel implements ActionListener {
+public class GamePanel extends JPanel {
     private final int PANEL_WIDTH = GameFrame.WIDTH;
     private final int PANEL_HEIGHT = GameFrame.HEIGHT - StatPanel.HEIGHT;
     
     // Performance optimization variables
-    private int targetFPS = 120;
     private boolean showFPS = false;
     private long lastFPSCheck = 0;
     private int currentFPS = 0;
     private int frameCount = 0;
     private boolean useViewportCulling = true;
     private int cullingMargin = 0;
-    private boolean useImageCaching = true;
-    
-    // Pre-compute flash images for performance
-    private ColorConvertOp flashEffect = new ColorConvertOp(ColorSpace.getInstance(ColorSpace.CS_GRAY), null);
-    private BufferedImage playerFlashImage = null;
-    private BufferedImage[] zombieFlashImages = new BufferedImage[4]; // One for each zombie type
+    private FrameTimeStats frameStats = new FrameTimeStats();
+    private ActiveRenderer activeRenderer;
 
     private GameInfo gameInfo;
     private int mouseX = PANEL_WIDTH / 2;
     private int mouseY = PANEL_HEIGHT / 2;
-    private Random random = new Random();
-
-    protected Background background;
-    protected boolean moveUp = false;
-    protected boolean moveDown = false;
-    protected boolean moveLeft = false;
-    protected boolean moveRight = false;
-    protected boolean leftMousePressed = false;
+    private Simulation simulation;
 
     public GamePanel(GameInfo gameInfo) {
         this.gameInfo = gameInfo;
@@ -60,20 +40,18 @@ public class GamePanel extends JPanel implements ActionListener {
         setBackground(Color.GRAY);
         setFocusable(true);
 
-        background = new Background(
-            new String[]{
-                "assets/Background/tile_0000.png",
-                "assets/Background/tile_0001.png",
-                "assets/Background/tile_0002.png",
-                "assets/Background/tile_0043.png"
-            }, new String[]{
-                "assets/Background/tile_0027.png",
-                "assets/Background/tile_0028.png",
-            }
-        );
+        simulation = new Simulation(gameInfo);
+        gameInfo.simulation = simulation;
+
+        // Page-flipped canvas used when active rendering is on, shown only while the game loop runs
+        setLayout(null);
+        activeRenderer = new ActiveRenderer(PANEL_WIDTH, PANEL_HEIGHT);
+        activeRenderer.setLocation(0, 0);
+        activeRenderer.setVisible(false);
+        add(activeRenderer);
 
         // Mouse motion listener for player rotation
-        addMouseMotionListener(new MouseMotionAdapter() {
+        MouseMotionAdapter mouseMotionListener = new MouseMotionAdapter() {
             public void mouseMoved(MouseEvent evt) {
                 updateMousePosition(evt);
             }
@@ -89,33 +67,43 @@ public class GamePanel extends JPanel implements ActionListener {
                 mouseX = evt.getX();
                 mouseY = evt.getY();
                 
+                // The mouse is in screen space, so aim from where the camera puts the player
+                double playerScreenX = simulation.camera.toScreenX(gameInfo.player.getCenterX());
+                double playerScreenY = simulation.camera.toScreenY(gameInfo.player.getCenterY());
+
                 // Calculate angle for gun rotation
-                double angle = Math.atan2(mouseY - gameInfo.player.y - gameInfo.player.height/2, mouseX - gameInfo.player.x - gameInfo.player.width/2);
+                double angle = Math.atan2(mouseY - playerScreenY, mouseX - playerScreenX);
                 gameInfo.player.rotation = Math.toDegrees(angle);
                 
                 // Track facing direction for player flipping
-                gameInfo.player.facingLeft = (mouseX < gameInfo.player.getCenterX());
+                gameInfo.player.facingLeft = (mouseX < playerScreenX);
                 
-                repaint();
+                // The game loop draws the new aim on its next frame
             }
-        });
+        };
 
         // Mouse click listener for shooting
-        addMouseListener(new MouseAdapter() {
+        MouseAdapter mouseListener = new MouseAdapter() {
             @Override
             public void mousePressed(MouseEvent e) {
                 if (e.getButton() == MouseEvent.BUTTON1) {
-                    leftMousePressed = true;
+                    simulation.firing = true;
                 }
             }
 
             @Override
             public void mouseReleased(MouseEvent e) {
                 if (e.getButton() == MouseEvent.BUTTON1) {
-                    leftMousePressed = false;
+                    simulation.firing = false;
                 }
             }
-        });
+        };
+
+        // The canvas covers the panel in active mode, so it needs the same mouse handling
+        addMouseMotionListener(mouseMotionListener);
+        addMouseListener(mouseListener);
+        activeRenderer.addMouseMotionListener(mouseMotionListener);
+        activeRenderer.addMouseListener(mouseListener);
 
         addKeyListener(new KeyAdapter() {
             @Override
@@ -123,53 +111,37 @@ public class GamePanel extends JPanel implements ActionListener {
                 int keyCode = evt.getKeyCode();
                 
                 if (keyCode == gameInfo.getKeyBinding("moveUp")) {
-                    moveUp = true;
+                    simulation.moveUp = true;
                 } else if (keyCode == gameInfo.getKeyBinding("moveDown")) {
-                    moveDown = true;
+                    simulation.moveDown = true;
                 } else if (keyCode == gameInfo.getKeyBinding("moveLeft")) {
-                    moveLeft = true;
+                    simulation.moveLeft = true;
                 } else if (keyCode == gameInfo.getKeyBinding("moveRight")) {
-                    moveRight = true;
+                    simulation.moveRight = true;
                 } else if (keyCode == gameInfo.getKeyBinding("reload")) {
-                    gameInfo.player.reload();
+                    simulation.requestReload();
                     if (gameInfo.statPanel != null)
                         gameInfo.statPanel.update();
                 } else if (keyCode == gameInfo.getKeyBinding("weapon1")) {
-                    if (gameInfo.player.weapons.size() >= 1) {
-                        gameInfo.player.currentWeapon = gameInfo.player.weapons.get(0);
-                        if (gameInfo.statPanel != null)
-                            gameInfo.statPanel.update();
-                    }
+                    simulation.requestWeapon(0);
                 } else if (keyCode == gameInfo.getKeyBinding("weapon2")) {
-                    if (gameInfo.player.weapons.size() >= 2) {
-                        gameInfo.player.currentWeapon = gameInfo.player.weapons.get(1);
-                        if (gameInfo.statPanel != null)
-                            gameInfo.statPanel.update();
-                    }
+                    simulation.requestWeapon(1);
                 } else if (keyCode == gameInfo.getKeyBinding("weapon3")) {
-                    if (gameInfo.player.weapons.size() >= 3) {
-                        gameInfo.player.currentWeapon = gameInfo.player.weapons.get(2);
-                        if (gameInfo.statPanel != null)
-                            gameInfo.statPanel.update();
-                    }
+                    simulation.requestWeapon(2);
                 } else if (keyCode == gameInfo.getKeyBinding("weapon4")) {
-                    if (gameInfo.player.weapons.size() >= 4) {
-                        gameInfo.player.currentWeapon = gameInfo.player.weapons.get(3);
-                        if (gameInfo.statPanel != null)
-                            gameInfo.statPanel.update();
-                    }
+                    simulation.requestWeapon(3);
                 } else if (keyCode == gameInfo.getKeyBinding("weapon5")) {
-                    if (gameInfo.player.weapons.size() >= 5) {
-                        gameInfo.player.currentWeapon = gameInfo.player.weapons.get(4);
-                        if (gameInfo.statPanel != null)
-                            gameInfo.statPanel.update();
-                    }
+                    simulation.requestWeapon(4);
                 } else if (keyCode == gameInfo.getKeyBinding("pause")) {
                     togglePause();
                 } else if (keyCode == gameInfo.getKeyBinding("debug")) {
-                    background.toggleDebugMode();
+                    simulation.background.toggleDebugMode();
                 } else if (keyCode == gameInfo.getKeyBinding("toggleFPS")) {
                     toggleFPSDisplay();
+                } else if (keyCode == gameInfo.getKeyBinding("toggleRenderMode")) {
+                    toggleRenderMode();
+                } else if (keyCode == gameInfo.getKeyBinding("gameSpeed")) {
+                    cycleGameSpeed();
                 }
             }
 
@@ -178,302 +150,143 @@ public class GamePanel extends JPanel implements ActionListener {
                 int keyCode = evt.getKeyCode();
                 
                 if (keyCode == gameInfo.getKeyBinding("moveUp")) {
-                    moveUp = false;
+                    simulation.moveUp = false;
                 } else if (keyCode == gameInfo.getKeyBinding("moveDown")) {
-                    moveDown = false;
+                    simulation.moveDown = false;
                 } else if (keyCode == gameInfo.getKeyBinding("moveLeft")) {
-                    moveLeft = false;
+                    simulation.moveLeft = false;
                 } else if (keyCode == gameInfo.getKeyBinding("moveRight")) {
-                    moveRight = false;
+                    simulation.moveRight = false;
                 }
             }
         });
 
-        centerplayer();
-        gameInfo.gameTimer = new Timer(16, this);
+        simulation.centerPlayer();
+        gameInfo.gameLoop = new GameLoop(this::tick, this::presentFrame, gameInfo.targetFPS);
         
-        // Zombie spawn timer
-        gameInfo.zombieSpawnTimer = new Timer(gameInfo.currentZombieSpawnRate, new ActionListener() {
-            @Override
-            public void actionPerformed(ActionEvent e) {
-                spawnRandomZombie();
-            }
-        });
-        
-        updateTimerDelay();
+        updateFrameRate();
         requestFocus();
     }
 
-    private void spawnRandomZombie() {
-        if (gameInfo.zombiesSpawned >= gameInfo.getMaxZombiesPerWave()) {
-            return;
-        }
-
-        // Avoid spawning too close to the player
-        int safeDistance = 200; // Minimum distance from player
-        int x, y;
-        double distance;
-        boolean validPosition;
-
-        do {
-            // Generate random position within panel
-            x = random.nextInt(PANEL_WIDTH - Zombie.ZOMBIE_WIDTH);
-            y = random.nextInt(PANEL_HEIGHT - Zombie.ZOMBIE_HEIGHT);
-
-            // Calculate distance from player center
-            double charCenterX = gameInfo.player.getCenterX();
-            double charCenterY = gameInfo.player.getCenterY();
-            double zombieCenterX = x + Zombie.ZOMBIE_WIDTH / 2;
-            double zombieCenterY = y + Zombie.ZOMBIE_HEIGHT / 2;
-            
-            double dx = charCenterX - zombieCenterX;
-            double dy = charCenterY - zombieCenterY;
-            distance = Math.sqrt(dx*dx + dy*dy);
-            
-            // Check if position is valid (not on an obstacle)
-            validPosition = background.isValidSpawnPosition(x, y, Zombie.ZOMBIE_WIDTH, Zombie.ZOMBIE_HEIGHT);
-            
-        } while (distance < safeDistance || !validPosition);
-
-        // Create and add the new zombie
-        int zombieVariety = 0;
-        if (gameInfo.currentWave <= 2) {
-            zombieVariety = 1;
-        } else if (gameInfo.currentWave <= 4) {
-            zombieVariety = 2;
-        } else if (gameInfo.currentWave <= 6) {
-            zombieVariety = 3;
-        } else {
-            zombieVariety = 4;
-        }
-        int randomNumber = random.nextInt(zombieVariety);
-        Zombie newZombie;
-
-        if (randomNumber == 0) {
-            newZombie = new NormalZombie(x, y);
-        } else if (randomNumber == 1) {
-            newZombie = new ReptileZombie(x, y);
-        } else if (randomNumber == 2) {
-            newZombie = new TankZombie(x, y);
-        } else {
-            newZombie = new AcidicZombie(x, y);
+    // Called by the game loop once per frame
+    private void presentFrame() {
+        if (gameInfo.activeRendering) {
+            if (activeRenderer.present(this::drawFrame)) {
+                return;
+            }
+            // Canvas isn't on screen yet, reveal it and paint this frame the passive way
+            SwingUtilities.invokeLater(() -> setActiveRendererVisible(true));
         }
-
-        newZombie.moveSpeed *= gameInfo.currentZombieSpeedMultiplier;
-        gameInfo.addZombie(newZombie);
+        repaint();
     }
 
-    public void centerplayer() {
-        // Initial position at center of screen
-        int x = (PANEL_WIDTH / 2) - (gameInfo.player.width / 2);
-        int y = (PANEL_HEIGHT / 2) - (gameInfo.player.height / 2);
-        
-        // Check if this is a valid spawn position (not on an obstacle)
-        boolean validPosition = background.isValidSpawnPosition(x, y, gameInfo.player.width, gameInfo.player.height);
-        
-        // If the center position isn't valid, find a nearby valid position using a spiral search pattern
-        if (!validPosition) {
-            int searchRadius = 25;
-            int spiralX = 0;
-            int spiralY = 0;
-            int spiralDx = 0;
-            int spiralDy = -1;
-            
-            // Search up to 25 tile cells away (should be enough to find an empty spot)
-            for (int i = 0; i < searchRadius * searchRadius; i++) {
-                // Try the current position in the spiral
-                int testX = x + (spiralX * background.TILE_SIZE);
-                int testY = y + (spiralY * background.TILE_SIZE);
-                
-                if (background.isValidSpawnPosition(testX, testY, gameInfo.player.width, gameInfo.player.height)) {
-                    // Found a valid position
-                    x = testX;
-                    y = testY;
-                    validPosition = true;
-                    break;
-                }
-                
-                // Move to the next position in the spiral
-                if (spiralX == spiralY || (spiralX < 0 && spiralX == -spiralY) || (spiralX > 0 && spiralX == 1-spiralY)) {
-                    // Change direction when we hit a corner in the spiral
-                    int temp = spiralDx;
-                    spiralDx = -spiralDy;
-                    spiralDy = temp;
-                }
-                spiralX += spiralDx;
-                spiralY += spiralDy;
-            }
-            
-            // If we still couldn't find a valid position, use the original center (fallback)
-            // This is very unlikely but we should handle it anyway
-            if (!validPosition) {
-                x = (PANEL_WIDTH / 2) - (gameInfo.player.width / 2);
-                y = (PANEL_HEIGHT / 2) - (gameInfo.player.height / 2);
-            }
+    private void setActiveRendererVisible(boolean visible) {
+        boolean show = visible && gameInfo.activeRendering && gameInfo.gameLoop.isRunning();
+        if (activeRenderer.isVisible() != show) {
+            activeRenderer.setVisible(show);
+            frameStats.reset();
+            repaint();
         }
-        
-        // Set player position
-        gameInfo.player.x = x;
-        gameInfo.player.y = y;
     }
 
-    private void shootBullet() {
-        Weapon currentWeapon = gameInfo.player.currentWeapon;
-
-        if (currentWeapon.isReloading) {
+    @Override
+    protected void paintComponent(Graphics g) {
+        super.paintComponent(g);
+        if (activeRenderer.isVisible()) {
+            // The canvas is presenting frames on top of this panel
             return;
         }
+        drawFrame((Graphics2D) g);
+    }
 
-        currentWeapon.currentAmmo -= 1;
-        if (currentWeapon.currentAmmo < 0) {
-            currentWeapon.currentAmmo = 0;
-            return;
-        }
-        if (gameInfo.statPanel != null) {
-            gameInfo.statPanel.update();
+    private void drawFrame(Graphics2D g2d) {
+        frameStats.recordFrame();
+        if (activeRenderer.isVisible()) {
+            // Page-flipped buffers aren't cleared for us
+            g2d.setColor(getBackground());
+            g2d.fillRect(0, 0, PANEL_WIDTH, PANEL_HEIGHT);
         }
-        double centerX = currentWeapon.getCenterX();
-        double centerY = currentWeapon.getCenterY();
 
-        if (currentWeapon instanceof Shotgun) {
-            int bulletCount = 9;
-            double spreadAngle = 5.0;
-            double startAngle = currentWeapon.rotation - (spreadAngle * (bulletCount - 1) / 2);
-            
-            for (int i = 0; i < bulletCount; i++) {
-                Bullet bullet = Bullet.Pool.getBullet(centerX, centerY, currentWeapon);
-                
-                // Calculate angle for this bullet
-                double bulletAngle = startAngle + (spreadAngle * i);
-                double angleRadians = Math.toRadians(bulletAngle);
-                
-                bullet.directionX = Math.cos(angleRadians);
-                bullet.directionY = Math.sin(angleRadians);
-                bullet.rotation = bulletAngle;
-                
-                gameInfo.bullets.add(bullet);
-            }
-        } else {
-            Bullet bullet = Bullet.Pool.getBullet(centerX, centerY, currentWeapon);
-
-            double shootingAngleOffset = 0;
-            if (currentWeapon != null) {
-                shootingAngleOffset = currentWeapon.shootingAngle;
-            }
-
-            // Generate random angle within the gun's shooting angle range
-            double randomSpread = random.nextDouble() * shootingAngleOffset - (shootingAngleOffset / 2);
-
-            // Apply the player rotation plus random spread
-            double finalAngle = currentWeapon.rotation + randomSpread;
-            double angleRadians = Math.toRadians(finalAngle);
-
-            bullet.directionX = Math.cos(angleRadians);
-            bullet.directionY = Math.sin(angleRadians);
-            bullet.rotation = finalAngle;
-
-            gameInfo.bullets.add(bullet);
+        // Keep the simulation thread out while this frame reads the world
+        synchronized (gameInfo.gameLoop.getLock()) {
+            render(g2d, gameInfo.gameLoop.getInterpolation());
         }
     }
 
-    @Override
-    protected void paintComponent(Graphics g) {
-        super.paintComponent(g);
-        Graphics2D g2d = (Graphics2D) g;
-        
+    private void render(Graphics2D g2d, double alpha) {
+        // Game time of the last tick; it stands still while paused
+        long currentTime = gameInfo.clock.now();
+
         // Apply rendering hints
         g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_OFF);
         g2d.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_NEAREST_NEIGHBOR);
 
         // Draw the background
-        background.draw(g2d, PANEL_WIDTH, PANEL_HEIGHT, gameInfo.player);
-
+        Camera camera = simulation.camera;
+        simulation.background.draw(g2d, PANEL_WIDTH, PANEL_HEIGHT, gameInfo.player, camera, alpha);
+
+        // Everything in the world is drawn through the camera; the HUD goes back to screen space
+        AffineTransform screenTransform = g2d.getTransform();
+        double cameraX = camera.getRenderX(alpha);
+        double cameraY = camera.getRenderY(alpha);
+        g2d.translate(-cameraX, -cameraY);
         AffineTransform originalTransform = g2d.getTransform();
 
-        // Calculate viewport bounds (what's visible on screen) with culling margin
-        int viewportMinX = -cullingMargin;
-        int viewportMinY = -cullingMargin;
-        int viewportMaxX = PANEL_WIDTH + cullingMargin;
-        int viewportMaxY = PANEL_HEIGHT + cullingMargin;
+        // Calculate viewport bounds (what's visible on screen) in world space with culling margin
+        int viewportMinX = (int)cameraX - cullingMargin;
+        int viewportMinY = (int)cameraY - cullingMargin;
+        int viewportMaxX = (int)cameraX + PANEL_WIDTH + cullingMargin;
+        int viewportMaxY = (int)cameraY + PANEL_HEIGHT + cullingMargin;
 
         // Draw all drops - with culling
         for (Drop drop : gameInfo.drops) {
             if (!drop.isCollected() && isEntityVisible(drop, viewportMinX, viewportMinY, viewportMaxX, viewportMaxY)) {
+                int dropX = (int)drop.getRenderX(alpha);
+                int dropY = (int)drop.getRenderY(alpha);
                 if (drop.image != null) {
-                    g2d.drawImage(drop.image, (int)drop.x, (int)drop.y, 
-                                 drop.width, drop.height, null);
+                    drop.drawSprite(g2d, dropX, dropY, drop.width, drop.height);
                 } else {
                     // Fallback if image fails to load
                     g2d.setColor(Color.YELLOW);
-                    g2d.fillRect((int)drop.x, (int)drop.y, drop.width, drop.height);
+                    g2d.fillRect(dropX, dropY, drop.width, drop.height);
                 }
             }
         }
 
+        // The camera follows the player, so draw the player where it is between ticks too
+        g2d.translate(gameInfo.player.getRenderX(alpha) - gameInfo.player.x,
+                      gameInfo.player.getRenderY(alpha) - gameInfo.player.y);
+        AffineTransform playerTransform = g2d.getTransform();
+
         // Draw player
         if (gameInfo.player.image != null) {
-            AffineTransform transform = g2d.getTransform();
-            
-            // Create a new transform for drawing the player
-            AffineTransform playerTransform = new AffineTransform();
-            
-            // Apply player position and flipping
-            if (gameInfo.player.facingLeft) {
-                playerTransform.translate(gameInfo.player.x + gameInfo.player.width, gameInfo.player.y);
-                playerTransform.scale(-1, 1);
-            } else {
-                playerTransform.translate(gameInfo.player.x, gameInfo.player.y);
-            }
-            
-            g2d.setTransform(playerTransform);
-            
-            // Apply flash effect if player is flashing
-            if (gameInfo.player.isFlashing()) {
-                // Use pre-cached flash image if available, otherwise create it
-                if (playerFlashImage == null && useImageCaching) {
-                    playerFlashImage = flashEffect.filter(gameInfo.player.image, null);
-                }
-                
-                BufferedImage flashImage = useImageCaching ? playerFlashImage : flashEffect.filter(gameInfo.player.image, null);
-                g2d.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, 1.0f));
-                g2d.drawImage(flashImage, 0, 0, gameInfo.player.width, gameInfo.player.height, null);
-            } else {
-                g2d.drawImage(gameInfo.player.image, 0, 0, gameInfo.player.width, gameInfo.player.height, null);
-            }
-            
-            g2d.setTransform(transform);
+            // Flipped and flashing frames come from the variant cache, so no transform or filter is needed
+            BufferedImage playerImage = SpriteVariants.get(gameInfo.player.image,
+                gameInfo.player.isFlashing(), gameInfo.player.facingLeft);
+            g2d.drawImage(playerImage, (int)gameInfo.player.x, (int)gameInfo.player.y,
+                          gameInfo.player.width, gameInfo.player.height, null);
         } else {
             g2d.setColor(Color.RED);
             g2d.fillRect((int)gameInfo.player.x, (int)gameInfo.player.y, 50, 50);
         }
-        drawCooldownBar(g2d);
-        drawReloadingBar(g2d);
+        drawCooldownBar(g2d, currentTime);
+        drawReloadingBar(g2d, currentTime);
 
         // Draw the gun
         gameInfo.player.updateGunPosition();
         if (gameInfo.player.currentWeapon != null && gameInfo.player.currentWeapon.image != null) {
-            AffineTransform gunTransform = new AffineTransform();
+            AffineTransform gunTransform = new AffineTransform(playerTransform);
             
             // First translate to player center
             double playerCenterX = gameInfo.player.getCenterX();
             double playerCenterY = gameInfo.player.getCenterY();
             
-            // Calculate gun offset from player center
-            double gunOffsetX = gameInfo.player.width/2; // Offset from player center
-            
             // Apply rotation around player center
             // Add 45-degree offset to compensate for tilted weapon image
             double weaponAngleOffset = Math.toRadians(45);
             double angleRad = Math.toRadians(gameInfo.player.currentWeapon.rotation) + weaponAngleOffset;
             
-            // Calculate gun position after rotation
-            double rotatedGunX = playerCenterX + Math.cos(angleRad) * gunOffsetX - gameInfo.player.currentWeapon.width/2;
-            
-            // Update gun position
-            gameInfo.player.currentWeapon.x = rotatedGunX;
-            gameInfo.player.currentWeapon.y = gameInfo.player.getCenterY() - gameInfo.player.currentWeapon.height/2;
-            
-            boolean facingLeft = mouseX < gameInfo.player.getCenterX();
+            boolean facingLeft = gameInfo.player.facingLeft;
             if (facingLeft) {
                 angleRad += Math.toRadians(-90);
             }
@@ -486,29 +299,33 @@ public class GamePanel extends JPanel implements ActionListener {
 
             g2d.setTransform(gunTransform);
 
-            g2d.drawImage(gameInfo.player.currentWeapon.image, (int)gameInfo.player.currentWeapon.x, (int)gameInfo.player.currentWeapon.y, 
-                         gameInfo.player.currentWeapon.width, gameInfo.player.currentWeapon.height, null);
+            gameInfo.player.currentWeapon.drawSprite(g2d, (int)gameInfo.player.currentWeapon.x, (int)gameInfo.player.currentWeapon.y, 
+                         gameInfo.player.currentWeapon.width, gameInfo.player.currentWeapon.height);
         }
         g2d.setTransform(originalTransform);
 
         // Draw all bullets - with culling
         for (Bullet bullet : gameInfo.bullets) {
             if (isEntityVisible(bullet, viewportMinX, viewportMinY, viewportMaxX, viewportMaxY)) {
+                if (bullet.drawRotated(g2d, alpha)) {
+                    continue;
+                }
+                double bulletX = bullet.getRenderX(alpha);
+                double bulletY = bullet.getRenderY(alpha);
                 if (bullet.image != null) {
                     // Create rotation transform for the bullet
-                    AffineTransform bulletTransform = new AffineTransform();
-                    bulletTransform.rotate(Math.toRadians(bullet.rotation), bullet.getCenterX(), bullet.getCenterY());
+                    AffineTransform bulletTransform = new AffineTransform(originalTransform);
+                    bulletTransform.rotate(Math.toRadians(bullet.rotation), bulletX + bullet.width / 2, bulletY + bullet.height / 2);
                     g2d.setTransform(bulletTransform);
 
-                    g2d.drawImage(bullet.image, (int)bullet.x, (int)bullet.y, 
-                                 bullet.width, bullet.height, null);
+                    bullet.drawSprite(g2d, (int)bulletX, (int)bulletY, bullet.width, bullet.height);
 
                     // Reset transform after drawing each bullet
                     g2d.setTransform(originalTransform);
                 } else {
                     // Fallback if bullet image fails to load
                     g2d.setColor(Color.BLUE);
-                    g2d.fillOval((int)bullet.x, (int)bullet.y, bullet.width, bullet.height);
+                    g2d.fillOval((int)bulletX, (int)bulletY, bullet.width, bullet.height);
                 }
             }
         }
@@ -517,39 +334,22 @@ public class GamePanel extends JPanel implements ActionListener {
         for (Zombie zombie : gameInfo.zombies) {
             if (isEntityVisible(zombie, viewportMinX, viewportMinY, viewportMaxX, viewportMaxY)) {
                 if (zombie.image != null) {
-                    AffineTransform transform = g2d.getTransform();
-                    AffineTransform zombieTransform = new AffineTransform();
+                    boolean flashing = zombie.isFlashing();
+                    boolean mirrored = zombie.directionX < 0;
+                    int zombieX = (int)zombie.getRenderX(alpha);
+                    int zombieY = (int)zombie.getRenderY(alpha);
                     
-                    if (zombie.directionX < 0) {
-                        zombieTransform.translate(zombie.x + zombie.width, zombie.y);
-                        zombieTransform.scale(-1, 1);
+                    if (!flashing && !mirrored) {
+                        zombie.drawSprite(g2d, zombieX, zombieY, zombie.width, zombie.height);
                     } else {
-                        zombieTransform.translate(zombie.x, zombie.y);
+                        // Derive variants from the pre-scaled sprite so they blit 1:1
+                        AtlasRegion sprite = zombie.getSpriteRegion(zombie.width, zombie.height);
+                        BufferedImage source = sprite != null ? sprite.getImage() : zombie.image;
+                        g2d.drawImage(SpriteVariants.get(source, flashing, mirrored),
+                                      zombieX, zombieY, zombie.width, zombie.height, null);
                     }
                     
-                    g2d.setTransform(zombieTransform);
-                    
-                    // Apply flash effect if zombie is flashing
-                    if (zombie.isFlashing()) {
-                        // Get zombie type to use appropriate cached image
-                        int zombieType = getZombieTypeIndex(zombie);
-                        
-                        // Use pre-cached flash image if available, otherwise create it
-                        if (useImageCaching && zombieFlashImages[zombieType] == null) {
-                            zombieFlashImages[zombieType] = flashEffect.filter(zombie.image, null);
-                        }
-                        
-                        BufferedImage flashImage = useImageCaching ? 
-                            zombieFlashImages[zombieType] : flashEffect.filter(zombie.image, null);
-                        
-                        g2d.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, 1.0f));
-                        g2d.drawImage(flashImage, 0, 0, zombie.width, zombie.height, null);
-                    } else {
-                        g2d.drawImage(zombie.image, 0, 0, zombie.width, zombie.height, null);
-                    }
-                    
-                    g2d.setTransform(transform);
-                    drawHealthBar(g2d, zombie);
+                    drawHealthBar(g2d, zombie, zombieX, zombieY);
                 }
             }
         }
@@ -557,41 +357,56 @@ public class GamePanel extends JPanel implements ActionListener {
         // Draw all active animations - with culling
         for (Animation animation : gameInfo.animations) {
             if (isEntityVisible(animation, viewportMinX-animation.getWidth(), viewportMinY-animation.getHeight(), viewportMaxX+animation.getWidth(), viewportMaxY+animation.getHeight())) {
-                animation.draw(g2d);
+                animation.draw(g2d, alpha);
             }
         }
         
         // Draw lines from player to zombies
-        drawZombieIndicators(g2d);
+        drawZombieIndicators(g2d, viewportMinX + cullingMargin, viewportMinY + cullingMargin);
+        g2d.setTransform(screenTransform);
         
         // Display FPS if enabled
         if (showFPS) {
             // Calculate FPS
             frameCount++;
-            long currentTime = System.currentTimeMillis();
+            // Real time, not game time, since frames keep coming at any time scale
+            long wallTime = System.currentTimeMillis();
             double updateInterval = 1000;
-            if (currentTime - lastFPSCheck >= updateInterval) {
+            if (wallTime - lastFPSCheck >= updateInterval) {
                 currentFPS = (int) (frameCount * 1000 / updateInterval);
                 frameCount = 0;
-                lastFPSCheck = currentTime;
+                lastFPSCheck = wallTime;
             }
             
-            // Draw FPS counter
+            // Draw FPS counter with frame time spread for the current render path
             g2d.setColor(Color.WHITE);
             g2d.setFont(new Font("Arial", Font.BOLD, 14));
-            g2d.drawString("FPS: " + currentFPS, PANEL_WIDTH - 100, 20);
+            g2d.drawString("FPS: " + currentFPS, PANEL_WIDTH - 260, 20);
+            g2d.drawString(String.format("Frame: %.2f ms \u00B1 %.2f", frameStats.getMeanMs(), frameStats.getStdDevMs()),
+                           PANEL_WIDTH - 260, 40);
+            FrameTimeStats pacerStats = gameInfo.gameLoop.getPacer().getStats();
+            g2d.drawString(String.format("p50 %.2f  p95 %.2f  p99 %.2f ms", pacerStats.getPercentileMs(50),
+                           pacerStats.getPercentileMs(95), pacerStats.getPercentileMs(99)), PANEL_WIDTH - 260, 60);
+            g2d.drawString((activeRenderer.isVisible() ? "Active" : "Passive") + " rendering, target "
+                           + gameInfo.gameLoop.getPacer().getTargetFPS() + " FPS", PANEL_WIDTH - 260, 80);
+            g2d.drawString(String.format("Game speed: %.1fx", gameInfo.gameLoop.getTimeScale()), PANEL_WIDTH - 260, 100);
         }
     }
     
-    // Helper method to determine zombie type for caching
-    private int getZombieTypeIndex(Zombie zombie) {
-        if (zombie instanceof NormalZombie) return 0;
-        if (zombie instanceof ReptileZombie) return 1;
-        if (zombie instanceof TankZombie) return 2;
-        if (zombie instanceof AcidicZombie) return 3;
-        return 0; // Default to normal zombie
+    // Game update loop, one fixed step called from the GameLoop thread
+    public void tick() {
+        simulation.tick();
+
+        if (simulation.isGameOver() && gameInfo.gameLoop.isRunning()) {
+            gameInfo.gameLoop.stop();
+            SwingUtilities.invokeLater(() -> {
+                // The heavyweight canvas would cover the game over panel
+                setActiveRendererVisible(false);
+                gameInfo.showGameOver();
+            });
+        }
     }
-    
+
     // Helper method for viewport culling
     private boolean isEntityVisible(Entity entity, int minX, int minY, int maxX, int maxY) {
         if (!useViewportCulling) return true;
@@ -600,391 +415,12 @@ public class GamePanel extends JPanel implements ActionListener {
                entity.y + entity.height >= minY && entity.y <= maxY;
     }
 
-    // Game update loop
-    @Override
-    public void actionPerformed(ActionEvent e) {
-        if (gameInfo.isPaused) {
-            return;
-        }
-
-        if (gameInfo.player.health <= 0) {
-            gameInfo.player.health = 0;
-            gameInfo.gameTimer.stop();
-            gameInfo.zombieSpawnTimer.stop();
-            gameInfo.showGameOver();
-            return;
-        }
-
-        Weapon currentWeapon = gameInfo.player.currentWeapon;
-
-        if (leftMousePressed && currentWeapon.canShoot()) {
-            shootBullet();
-            currentWeapon.shoot();
-        }
-
-        // Handle player movement
-        double horizontalMovement = 0;
-        double verticalMovement = 0;
-        
-        Player player = gameInfo.player;
-        if (moveUp) verticalMovement -= player.moveSpeed;
-        if (moveDown) verticalMovement += player.moveSpeed;
-        if (moveLeft) horizontalMovement -= player.moveSpeed;
-        if (moveRight) horizontalMovement += player.moveSpeed;
-
-        // Set player animation state based on movement
-        boolean isMoving = (horizontalMovement != 0 || verticalMovement != 0);
-        gameInfo.player.setMoving(isMoving);
-        gameInfo.player.updateAnimation();
-
-        // Normalize the direction vector
-        double movementLength = Math.sqrt(horizontalMovement * horizontalMovement + verticalMovement * verticalMovement);
-        if (movementLength > 0) {
-            horizontalMovement /= movementLength;
-            verticalMovement /= movementLength;
-        }
-        if (horizontalMovement != 0 || verticalMovement != 0) {
-            // Try to update the background position with collision detection
-            boolean moveSuccessful = background.update(horizontalMovement * player.moveSpeed, 
-                                                      verticalMovement * player.moveSpeed,
-                                                        gameInfo.player.height);
-            
-            // Only move entities if the player's move was successful
-            if (moveSuccessful) {
-                for (Entity entity : Entity.entities) {
-                    if (entity instanceof Player || entity instanceof Weapon) {
-                        continue;
-                    }
-                    entity.x -= horizontalMovement * GameInfo.PLAYER_SPEED;
-                    entity.y -= verticalMovement * GameInfo.PLAYER_SPEED;
-                }
-            }
-        }
-        
-        // Update bullet positions
-        List<Bullet> bulletsToRemove = new ArrayList<>();
-        List<Zombie> zombiesToRemove = new ArrayList<>();
-        List<Drop> dropsToRemove = new ArrayList<>();
-        List<Animation> animationsToRemove = new ArrayList<>();
-
-        for (Bullet bullet : gameInfo.bullets) {
-            // Move bullet in its direction
-            bullet.x += bullet.directionX * bullet.moveSpeed;
-            bullet.y += bullet.directionY * bullet.moveSpeed;
-            
-            // Remove bullets that go off screen
-            if (bullet.x < -PANEL_WIDTH * 0.2 || bullet.x > PANEL_WIDTH*1.2 || bullet.y < -PANEL_HEIGHT * 0.2 || bullet.y > PANEL_HEIGHT*1.2) {
-                bulletsToRemove.add(bullet);
-                continue;
-            }
-
-            if (bullet.isZombieBullet()) {
-                // Check collision with player
-                if (bullet.getBounds().intersects(gameInfo.player.getBounds())) {
-                    gameInfo.player.health -= bullet.getDamage();
-                    gameInfo.player.startFlashEffect();
-                    if (gameInfo.statPanel != null) {
-                        gameInfo.statPanel.update();
-                    }
-                    bulletsToRemove.add(bullet);
-                }
-            } else {
-                for (Zombie zombie : gameInfo.zombies) {
-                    if (!bullet.hitZombies.contains(zombie) && bullet.getBounds().intersects(zombie.getBounds())) {
-                        if (bullet.getSourceWeapon() instanceof RocketLauncher) {
-                            GameInfo.playSound(((RocketLauncher)bullet.getSourceWeapon()).hitSoundPath);
-                            applyBlastDamageToZombies(zombiesToRemove, bullet, zombie, RocketLauncher.BLAST_RADIUS);
-
-                            // Create an explosion
-                            int explosionSize = (int) (RocketLauncher.BLAST_RADIUS * 1.5);
-                            Animation RPGExplosion = new Animation(
-                                zombie.getCenterX() - explosionSize/2,
-                                zombie.getCenterY() - explosionSize/2,
-                                explosionSize, explosionSize, 50, false, "RPGExplosion");
-                            RPGExplosion.loadFrames("assets/Explosion/RPG");
-                            gameInfo.animations.add(RPGExplosion);
-                        } else {
-                            zombie.health -= bullet.getDamage();
-                            zombie.startFlashEffect();
-                            if (zombie.health <= 0) {
-                                zombiesToRemove.add(zombie);
-                                gameInfo.player.kills++;
-                                gameInfo.player.score += zombie.score;                
-                                createLootDrop(zombie);
-                                if (zombie instanceof AcidicZombie) {
-                                    Animation blastAnimation = new Animation(
-                                        zombie.getCenterX() - AcidicZombie.BLAST_RADIUS/2,
-                                        zombie.getCenterY() - AcidicZombie.BLAST_RADIUS/2,
-                                        AcidicZombie.BLAST_RADIUS, AcidicZombie.BLAST_RADIUS, 50, false, "AcidicZombieExplosion");
-                                    blastAnimation.loadFrames("assets/Explosion/AcidicZombie");
-                                    gameInfo.animations.add(blastAnimation);
-                                    applyBlastDamageToZombies(zombiesToRemove, bullet, zombie, AcidicZombie.BLAST_RADIUS);
-                                }
-                            }
-                            bullet.hitZombies.add(zombie);
-                        }
-                        if (!(bullet.getSourceWeapon() instanceof Sniper)) {
-                            bulletsToRemove.add(bullet);
-                            break;
-                        }
-                    }
-                }
-            }
-        }
-
-        // Update zombie positions
-        for (Zombie zombie : gameInfo.zombies) {
-            // Calculate direction vector from zombie to player
-            double zombieCenterX = zombie.getCenterX();
-            double zombieCenterY = zombie.getCenterY();
-            double charCenterX = gameInfo.player.getCenterX();
-            double charCenterY = gameInfo.player.getCenterY();
-
-            // Direction vector
-            double dx = charCenterX - zombieCenterX;
-            double dy = charCenterY - zombieCenterY;
-
-            // Normalize the direction vector
-            double length = Math.sqrt(dx * dx + dy * dy);
-            if (length > 0) {
-                dx /= length;
-                dy /= length;
-            }
-    
-            double distanceToplayer = length;
-
-            // Check if the zombie can hit the player
-            if (distanceToplayer < zombie.attackRange && zombie.canAttack()) {
-                if (zombie instanceof AcidicZombie) {
-                    AcidicZombie acidicZombie = (AcidicZombie)zombie;
-                    Bullet acidBullet = acidicZombie.shootAcid(charCenterX, charCenterY);
-                    gameInfo.bullets.add(acidBullet);
-                } else {
-                    gameInfo.player.health -= zombie.damage;
-                    gameInfo.player.startFlashEffect();
-                    if (gameInfo.statPanel != null) {
-                        gameInfo.statPanel.update();
-                    }
-                    zombie.attack();
-                }
-            }
-
-            // Update zombie positions
-            if (zombie instanceof ReptileZombie) {
-                ReptileZombie reptileZombie = (ReptileZombie)zombie;
-                
-                if (distanceToplayer < ReptileZombie.JUMP_DISTANCE) {
-                    if (!reptileZombie.isJumping && reptileZombie.canJump()) {
-                        reptileZombie.prepareJump(charCenterX, charCenterY);
-                    }
-                }
-
-                if (reptileZombie.isJumping) {
-                    double moveX = reptileZombie.jumpDirectionX * reptileZombie.moveSpeed * ReptileZombie.JUMP_SPEED;
-                    double moveY = reptileZombie.jumpDirectionY * reptileZombie.moveSpeed * ReptileZombie.JUMP_SPEED;
-                    
-                    // Check if move is valid before applying it
-                    if (background.isValidMoveForEntity(zombie.x, zombie.y, moveX, moveY, zombie.width, zombie.height)) {
-                        reptileZombie.updateJump();
-                    } else {
-                        // If movement is blocked, stop jumping and try normal movement next frame
-                        reptileZombie.isJumping = false;
-                    }
-                } else if (zombie.canMoveCloser(distanceToplayer)) {
-                    double moveX = dx * zombie.moveSpeed;
-                    double moveY = dy * zombie.moveSpeed;
-                    
-                    // Check if move is valid before applying it
-                    if (background.isValidMoveForEntity(zombie.x, zombie.y, moveX, moveY, zombie.width, zombie.height)) {
-                        zombie.x += moveX;
-                        zombie.y += moveY;
-                    } else {
-                        // Try to slide along walls by attempting to move in just X or Y direction
-                        if (background.isValidMoveForEntity(zombie.x, zombie.y, moveX, 0, zombie.width, zombie.height)) {
-                            zombie.x += moveX;
-                        } else if (background.isValidMoveForEntity(zombie.x, zombie.y, 0, moveY, zombie.width, zombie.height)) {
-                            zombie.y += moveY;
-                        }
-                    }
-                }
-            } else if (zombie.canMoveCloser(distanceToplayer)) {
-                double moveX = dx * zombie.moveSpeed;
-                double moveY = dy * zombie.moveSpeed;
-                
-                // Check if move is valid before applying it
-                if (background.isValidMoveForEntity(zombie.x, zombie.y, moveX, moveY, zombie.width, zombie.height)) {
-                    zombie.x += moveX;
-                    zombie.y += moveY;
-                } else {
-                    // Try to slide along walls by attempting to move in just X or Y direction
-                    if (background.isValidMoveForEntity(zombie.x, zombie.y, moveX, 0, zombie.width, zombie.height)) {
-                        zombie.x += moveX;
-                    } else if (background.isValidMoveForEntity(zombie.x, zombie.y, 0, moveY, zombie.width, zombie.height)) {
-                        zombie.y += moveY;
-                    }
-                }
-            }
-
-            // Store direction for flipping in the renderer
-            zombie.directionX = dx;
-            zombie.directionY = dy;
-        }
-
-        for (Drop drop : gameInfo.drops) {
-            if (!drop.isCollected() && gameInfo.player.getBounds().intersects(drop.getBounds())) {
-                if (drop instanceof HealthDrop) {
-                    HealthDrop healthDrop = (HealthDrop)drop;
-                    if (gameInfo.player.health < Player.PLAYER_HEALTH) {
-                        drop.collect();
-                        dropsToRemove.add(drop);
-                        
-                        if (gameInfo.player.health <= Player.PLAYER_HEALTH - healthDrop.getHealthAmount()) {
-                            gameInfo.player.health += healthDrop.getHealthAmount();
-                        } else {
-                            gameInfo.player.health = Player.PLAYER_HEALTH;
-                        }
-                    }
-                } else {
-                    drop.collect();
-                    dropsToRemove.add(drop);
-
-                    if (drop instanceof AmmoDrop) {
-                        AmmoDrop weaponDrop = (AmmoDrop)drop;
-
-                        int ammoToAdd = weaponDrop.getAmmoAmount();
-                        Weapon sourceWeapon = weaponDrop.getSourceWeapon();
-
-                        for (Weapon playerWeapon : gameInfo.player.weapons) {
-                            if (playerWeapon != null && playerWeapon.getClass().equals(sourceWeapon.getClass())) {
-                                if (playerWeapon instanceof RocketLauncher) {
-                                    playerWeapon.currentAmmo += ammoToAdd;
-                                } else {                    
-                                    if (playerWeapon.currentTotalAmmo <= Integer.MAX_VALUE - ammoToAdd) {
-                                        playerWeapon.currentTotalAmmo += ammoToAdd;
-                                    } else {
-                                        playerWeapon.currentTotalAmmo = Integer.MAX_VALUE;
-                                    }
-                                }
-                                break;
-                            }
-                        }
-                    }
-                }
-     
-                // Update the stats panel
-                if (gameInfo.statPanel != null) {
-                    gameInfo.statPanel.update();
-                }
-            }
-        }
-
-        for (Animation animation : gameInfo.animations) {
-            if (!animation.update()) {
-                animationsToRemove.add(animation);
-            }
-        }
-
-        // Remove animations that have finished
-        gameInfo.animations.removeAll(animationsToRemove);
-
-        // Remove bullets that are off screen or have hit something
-        for (Bullet bullet : bulletsToRemove) {
-            gameInfo.bullets.remove(bullet);
-            Bullet.Pool.returnBullet(bullet);
-        }
-
-        // Remove zombies that were hit
-        for (Zombie zombie : zombiesToRemove) {
-            gameInfo.zombies.remove(zombie);
-        }
-
-        // Remove collected drops
-        gameInfo.drops.removeAll(dropsToRemove);
-
-        // Update zombies killed count
-        gameInfo.zombiesKilled += zombiesToRemove.size();
-        
-        // Update zombies remaining count
-        gameInfo.updateZombiesRemaining(gameInfo.zombies.size());
-        
-        // Check if we need to advance to the next wave
-        gameInfo.incrementWaveIfNeeded();
-
-        repaint();
-    }
-
-    private void applyBlastDamageToZombies(List<Zombie> zombiesToRemove, Bullet bullet, Zombie sourceZombie, double blastRadius) {
-        for (Zombie targetZombie : gameInfo.zombies) {
-            if (zombiesToRemove.contains(targetZombie)) {
-                continue;
-            }
-            double dx = targetZombie.getCenterX() - sourceZombie.getCenterX();
-            double dy = targetZombie.getCenterY() - sourceZombie.getCenterY();
-            double distance = Math.sqrt(dx * dx + dy * dy);
-            if (distance < blastRadius) {
-                targetZombie.health -= bullet.getDamage();
-                targetZombie.startFlashEffect();
-                if (targetZombie.health <= 0) {
-                    zombiesToRemove.add(targetZombie);
-                    gameInfo.player.kills++;
-                    gameInfo.player.score += targetZombie.score;    
-                    createLootDrop(targetZombie);
-                    if (targetZombie instanceof AcidicZombie) {
-                        Animation blastAnimation = new Animation(
-                            sourceZombie.getCenterX() - blastRadius/2,
-                            sourceZombie.getCenterY() - blastRadius/2,
-                            (int)blastRadius, (int)blastRadius, 50, false, "AcidicZombieExplosion");
-                        blastAnimation.loadFrames("assets/Explosion/AcidicZombie");
-                        gameInfo.animations.add(blastAnimation);
-                        applyBlastDamageToZombies(zombiesToRemove, bullet, sourceZombie, AcidicZombie.BLAST_RADIUS);
-                    }
-                }
-                bullet.hitZombies.add(sourceZombie);
-            }
-        }
-    }
-
-    private void createLootDrop(Zombie zombie) {
-        if (random.nextFloat() < GameInfo.HEALTH_DROP_CHANCE) {
-            HealthDrop healthDrop = new HealthDrop(zombie.getCenterX(), zombie.getCenterY());
-            gameInfo.addDrop(healthDrop);
-        } else if (random.nextFloat() < GameInfo.AMMO_DROP_CHANCE) {
-            Weapon randomWeapon;
-            int randomWeaponVariety;
-            if (gameInfo.currentWave == 1) {
-                randomWeaponVariety = -1;
-            } else if (gameInfo.currentWave <= 3) {
-                randomWeaponVariety = 1;
-            } else if (gameInfo.currentWave <= 5) {
-                randomWeaponVariety = 2;
-            } else if (gameInfo.currentWave <= 10) {
-                randomWeaponVariety = 3;
-            } else {
-                randomWeaponVariety = 4;
-            }
-            if (randomWeaponVariety != -1) {
-                int randomWeaponNumber = random.nextInt(randomWeaponVariety);
-                if (randomWeaponNumber == 0) {
-                    randomWeapon = new Rifle();
-                } else if (randomWeaponNumber == 1) {
-                    randomWeapon = new Shotgun();
-                } else if (randomWeaponNumber == 2) {
-                    randomWeapon = new Sniper();
-                } else {
-                    randomWeapon = new RocketLauncher();
-                }
-                AmmoDrop ammoDrop = new AmmoDrop(zombie.getCenterX(), zombie.getCenterY(), randomWeapon, gameInfo);
-                gameInfo.addDrop(ammoDrop);
-            }
-        }
-    }
-
-    private void drawHealthBar(Graphics2D g2d, Zombie zombie) {
+    private void drawHealthBar(Graphics2D g2d, Zombie zombie, int zombieX, int zombieY) {
         // Health bar dimensions and position
         int barWidth = zombie.width;
         int barHeight = 5;
-        int barX = (int)zombie.x;
-        int barY = (int)zombie.y - 10;
+        int barX = zombieX;
+        int barY = zombieY - 10;
         
         // Draw background (empty health bar)
         g2d.setColor(Color.DARK_GRAY);
@@ -1013,10 +449,9 @@ public class GamePanel extends JPanel implements ActionListener {
         g2d.drawRect(barX, barY, barWidth, barHeight);
     }
 
-    private void drawCooldownBar(Graphics2D g2d) {
+    private void drawCooldownBar(Graphics2D g2d, long currentTime) {
         Weapon currentWeapon = gameInfo.player.currentWeapon;
-        if (!currentWeapon.isReloading && !currentWeapon.canShoot() && currentWeapon.currentAmmo > 0) {
-            long currentTime = System.currentTimeMillis();
+        if (!currentWeapon.isReloading && !currentWeapon.canShoot(currentTime) && currentWeapon.currentAmmo > 0) {
             long lastShotTime = currentWeapon.lastShotTime;
 
             double elapsedTime = currentTime - lastShotTime;
@@ -1040,12 +475,11 @@ public class GamePanel extends JPanel implements ActionListener {
         }
     }
 
-    private void drawReloadingBar(Graphics2D g2d) {
+    private void drawReloadingBar(Graphics2D g2d, long currentTime) {
         Weapon currentWeapon = gameInfo.player.currentWeapon;
         
         // Only show when player is reloading
         if (currentWeapon.isReloading) {
-            long currentTime = System.currentTimeMillis();
             long reloadStartTime = currentWeapon.reloadStartTime;
             long reloadTime = currentWeapon.reloadTimeMs;
 
@@ -1089,12 +523,10 @@ public class GamePanel extends JPanel implements ActionListener {
         gameInfo.isPaused = true;
 
         // Stop game timers
-        if (gameInfo.gameTimer != null && gameInfo.gameTimer.isRunning()) {
-            gameInfo.gameTimer.stop();
-        }
-        if (gameInfo.zombieSpawnTimer != null && gameInfo.zombieSpawnTimer.isRunning()) {
-            gameInfo.zombieSpawnTimer.stop();
+        if (gameInfo.gameLoop != null && gameInfo.gameLoop.isRunning()) {
+            gameInfo.gameLoop.stop();
         }
+        setActiveRendererVisible(false);
         
         // Show pause panel
         if (gameInfo.pauseGamePanel != null) {
@@ -1106,11 +538,8 @@ public class GamePanel extends JPanel implements ActionListener {
         gameInfo.isPaused = false;
         
         // Restart game timers
-        if (gameInfo.gameTimer != null && !gameInfo.gameTimer.isRunning()) {
-            gameInfo.gameTimer.start();
-        }
-        if (gameInfo.zombieSpawnTimer != null && !gameInfo.zombieSpawnTimer.isRunning()) {
-            gameInfo.zombieSpawnTimer.start();
+        if (gameInfo.gameLoop != null && !gameInfo.gameLoop.isRunning()) {
+            gameInfo.gameLoop.start();
         }
         
         // Hide pause panel
@@ -1125,15 +554,26 @@ public class GamePanel extends JPanel implements ActionListener {
     private void toggleFPSDisplay() {
         showFPS = !showFPS;
     }
+
+    private void toggleRenderMode() {
+        gameInfo.activeRendering = !gameInfo.activeRendering;
+        gameInfo.saveSettings();
+        setActiveRendererVisible(gameInfo.activeRendering);
+    }
+    
+    // Debug control: normal, double and half speed, for watching waves play out or stepping through fights
+    private void cycleGameSpeed() {
+        double timeScale = gameInfo.gameLoop.getTimeScale();
+        gameInfo.gameLoop.setTimeScale(timeScale == 1.0 ? 2.0 : timeScale == 2.0 ? 0.5 : 1.0);
+    }
     
-    private void updateTimerDelay() {
-        int delay = 1000 / targetFPS;
-        if (gameInfo.gameTimer != null) {
-            gameInfo.gameTimer.setDelay(delay);
+    public void updateFrameRate() {
+        if (gameInfo.gameLoop != null) {
+            gameInfo.gameLoop.setTargetFPS(gameInfo.targetFPS);
         }
     }
     
-    private void drawZombieIndicators(Graphics2D g2d) {
+    private void drawZombieIndicators(Graphics2D g2d, int viewX, int viewY) {
         g2d.setColor(Color.RED);
         g2d.setStroke(new BasicStroke(2));
         
@@ -1142,7 +582,7 @@ public class GamePanel extends JPanel implements ActionListener {
         double playerCenterY = gameInfo.player.getCenterY();
         
         for (Zombie zombie : gameInfo.zombies) {
-            if (isEntityVisible(zombie, 0, 0, PANEL_WIDTH, PANEL_HEIGHT)) {
+            if (isEntityVisible(zombie, viewX, viewY, viewX + PANEL_WIDTH, viewY + PANEL_HEIGHT)) {
                 continue;
             }
             double zombieCenterX = zombie.getCenterX();
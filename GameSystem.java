@@ -0,0 +1,5 @@
+// One piece of world behaviour. The simulation runs each system once per tick, and a system only
+// visits the entities that have its components, through a registry query
+public interface GameSystem {
+    void update(long currentTime);
+}
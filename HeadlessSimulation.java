@@ -0,0 +1,101 @@
+import java.util.Map;
+import java.util.Random;
+
+// Steps the game rules with no window, as fast as the CPU allows, for load tests and balancing runs
+// Usage: java -Djava.awt.headless=true HeadlessSimulation [ticks] [seed] [normal|hard]
+public class HeadlessSimulation {
+    private final GameInfo gameInfo;
+    private final Simulation simulation;
+    private int ticksRun = 0;
+
+    public HeadlessSimulation(GameInfo gameInfo, Simulation simulation) {
+        this.gameInfo = gameInfo;
+        this.simulation = simulation;
+    }
+
+    public static HeadlessSimulation create(long seed, GameInfo.GameDifficulty difficulty) {
+        GameInfo gameInfo = new GameInfo(false);
+        gameInfo.createPlayer();
+        gameInfo.setDifficulty(difficulty);
+        Simulation simulation = new Simulation(gameInfo, new Random(seed));
+        gameInfo.simulation = simulation;
+        simulation.centerPlayer();
+        return new HeadlessSimulation(gameInfo, simulation);
+    }
+
+    // Advance up to the given number of ticks, stopping early if the player dies
+    public int step(int ticks) {
+        int stepped = 0;
+        while (stepped < ticks && !simulation.isGameOver()) {
+            playBot();
+            simulation.tick();
+            stepped++;
+        }
+        ticksRun += stepped;
+        return stepped;
+    }
+
+    // Stand still, aim at the nearest zombie and keep shooting
+    private void playBot() {
+        Player player = gameInfo.player;
+        Zombie target = null;
+        double nearest = Double.MAX_VALUE;
+        for (Zombie zombie : gameInfo.zombies) {
+            double dx = zombie.getCenterX() - player.getCenterX();
+            double dy = zombie.getCenterY() - player.getCenterY();
+            double distance = dx * dx + dy * dy;
+            if (distance < nearest) {
+                nearest = distance;
+                target = zombie;
+            }
+        }
+
+        simulation.firing = target != null;
+        if (target != null) {
+            player.rotation = Math.toDegrees(Math.atan2(target.getCenterY() - player.getCenterY(),
+                                                        target.getCenterX() - player.getCenterX()));
+            player.facingLeft = target.getCenterX() < player.getCenterX();
+        }
+
+        Weapon weapon = player.currentWeapon;
+        if (weapon.currentAmmo == 0 && !weapon.isReloading) {
+            simulation.requestReload();
+        }
+    }
+
+    public String getSummary() {
+        return String.format("ticks=%d simSeconds=%.1f wave=%d kills=%d score=%d health=%.0f zombies=%d bullets=%d",
+            ticksRun, ticksRun / (double)GameLoop.TICKS_PER_SECOND, gameInfo.currentWave, gameInfo.player.kills,
+            gameInfo.player.score, gameInfo.player.health, gameInfo.world.getLiveCount(Zombie.class),
+            gameInfo.world.getLiveCount(Bullet.class));
+    }
+
+    // Milliseconds spent in each world system over the run
+    public String getSystemSummary() {
+        StringBuilder summary = new StringBuilder("systemMs");
+        for (Map.Entry<String, Long> entry : simulation.getSystemTimes().entrySet()) {
+            summary.append(String.format(" %s=%.1f", entry.getKey(), entry.getValue() / 1_000_000.0));
+        }
+        return summary.toString();
+    }
+
+    public static void main(String[] args) {
+        // Must be set before any AWT class loads
+        System.setProperty("java.awt.headless", "true");
+
+        int ticks = args.length > 0 ? Integer.parseInt(args[0]) : GameLoop.TICKS_PER_SECOND * 60;
+        long seed = args.length > 1 ? Long.parseLong(args[1]) : System.nanoTime();
+        GameInfo.GameDifficulty difficulty = args.length > 2 && args[2].equalsIgnoreCase("hard")
+            ? GameInfo.GameDifficulty.HARD : GameInfo.GameDifficulty.NORMAL;
+
+        HeadlessSimulation run = create(seed, difficulty);
+        long start = System.nanoTime();
+        int stepped = run.step(ticks);
+        double elapsedMs = (System.nanoTime() - start) / 1_000_000.0;
+
+        System.out.println(run.getSummary());
+        System.out.printf("seed=%d wallMs=%.1f ticksPerSecond=%.0f%n", seed, elapsedMs, stepped / (elapsedMs / 1000.0));
+        System.out.println(run.getSystemSummary());
+        System.exit(0);
+    }
+}
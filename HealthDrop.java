@@ -30,6 +30,18 @@ public class HealthDrop extends Drop {
         return healthAmount;
     }
 
+    @Override
+    protected Object[] createComponents() {
+        return new Object[] { new Components.HealthPickup(healthAmount) };
+    }
+
+    // Called by the asset preloader so every food image is decoded before the first drop
+    protected static void preloadFoodImages() {
+        for (String path : availableFoodImages) {
+            ImageCache.get(path);
+        }
+    }
+
     private static void loadAvailableFoodImages() {
         // Use List to collect paths as we don't know the final size
         List<String> foodImagePaths = new ArrayList<>();
@@ -0,0 +1,71 @@
+import java.awt.GraphicsConfiguration;
+import java.awt.GraphicsEnvironment;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.imageio.ImageIO;
+
+public class ImageCache {
+    // Stands in for paths that are missing or unreadable, so they are only tried once
+    private static final BufferedImage MISSING = new BufferedImage(1, 1, BufferedImage.TYPE_INT_ARGB);
+    // Decoded images shared by every entity, keyed by normalized asset path
+    private static final Map<String, BufferedImage> images = new ConcurrentHashMap<>();
+
+    public static BufferedImage get(String path) {
+        if (path == null) {
+            return null;
+        }
+        String key = new File(path).getPath();
+        BufferedImage image = images.get(key);
+        if (image == null) {
+            // computeIfAbsent makes sure concurrent callers decode a path only once
+            image = images.computeIfAbsent(key, ImageCache::load);
+        }
+        return image == MISSING ? null : image;
+    }
+
+    public static BufferedImage get(File file) {
+        return get(file.getPath());
+    }
+
+    // Replace the cached image for a path, e.g. with a view into a texture atlas page
+    public static void put(String path, BufferedImage image) {
+        images.put(new File(path).getPath(), image);
+    }
+
+    public static boolean contains(String path) {
+        BufferedImage image = images.get(new File(path).getPath());
+        return image != null && image != MISSING;
+    }
+
+    public static int size() {
+        return images.size();
+    }
+
+    // Create a translucent image in the display's native pixel layout so draws are straight blits
+    public static BufferedImage createCompatibleImage(int width, int height) {
+        if (!GraphicsEnvironment.isHeadless()) {
+            GraphicsConfiguration config = GraphicsEnvironment.getLocalGraphicsEnvironment()
+                .getDefaultScreenDevice().getDefaultConfiguration();
+            return config.createCompatibleImage(width, height, Transparency.TRANSLUCENT);
+        }
+        return new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB_PRE);
+    }
+
+    private static BufferedImage load(String path) {
+        try {
+            BufferedImage image = ImageIO.read(new File(path));
+            if (image == null) {
+                System.err.println("Unsupported image format: " + path);
+                return MISSING;
+            }
+            return image;
+        } catch (IOException e) {
+            System.err.println("Failed to load image: " + path + " - " + e.getMessage());
+            return MISSING;
+        }
+    }
+}
@@ -0,0 +1,77 @@
+import java.util.List;
+
+// Zombies that can jump dash straight at the player when it comes close enough, then cool down.
+// A jumping zombie moves itself, so the walk skips it
+public class JumpSystem implements GameSystem {
+    private final GameInfo gameInfo;
+    private final Simulation simulation;
+    private final EntityRegistry.Query jumpers;
+
+    public JumpSystem(GameInfo gameInfo, Simulation simulation) {
+        this.gameInfo = gameInfo;
+        this.simulation = simulation;
+        this.jumpers = gameInfo.world.query(Components.Jump.class);
+    }
+
+    @Override
+    public void update(long currentTime) {
+        ZombieStore zombieStore = gameInfo.zombieStore;
+        double targetX = gameInfo.player.getCenterX();
+        double targetY = gameInfo.player.getCenterY();
+
+        List<Archetype> archetypes = jumpers.archetypes();
+        for (int a = 0; a < archetypes.size(); a++) {
+            Archetype archetype = archetypes.get(a);
+            Object[] jumps = archetype.column(Components.Jump.class);
+            for (int row = 0; row < archetype.size(); row++) {
+                Zombie zombie = (Zombie)archetype.getEntity(row);
+                Components.Jump jump = (Components.Jump)jumps[row];
+                int slot = zombie.storeSlot;
+                if (jump.lastJumpTime < 0) {
+                    jump.lastJumpTime = currentTime;
+                }
+
+                double x = zombieStore.getX(slot);
+                double y = zombieStore.getY(slot);
+                if (!jump.active && zombieStore.getDistance(slot) < jump.triggerDistance
+                        && currentTime - jump.lastJumpTime >= jump.cooldown) {
+                    start(jump, x + zombie.width / 2, y + zombie.height / 2, targetX, targetY, currentTime);
+                }
+                if (!jump.active) {
+                    continue;
+                }
+
+                zombieStore.hold(slot);
+                double step = zombieStore.getSpeed(slot) * jump.speedFactor;
+                double moveX = jump.directionX * step;
+                double moveY = jump.directionY * step;
+                if (simulation.background.isValidMoveForEntity(x, y, moveX, moveY, zombie.width, zombie.height)) {
+                    zombieStore.setPosition(slot, x + moveX, y + moveY);
+                    jump.distanceTraveled += step;
+                    if (jump.distanceTraveled >= jump.range) {
+                        jump.active = false;
+                    }
+                } else {
+                    // Blocked, so stop jumping and walk again next tick
+                    jump.active = false;
+                }
+            }
+        }
+    }
+
+    // Aim the jump from the zombie's centre at the player
+    private void start(Components.Jump jump, double fromX, double fromY, double targetX, double targetY, long currentTime) {
+        double dx = targetX - fromX;
+        double dy = targetY - fromY;
+        double length = Math.sqrt(dx * dx + dy * dy);
+        if (length > 0) {
+            dx /= length;
+            dy /= length;
+        }
+        jump.directionX = dx;
+        jump.directionY = dy;
+        jump.active = true;
+        jump.distanceTraveled = 0;
+        jump.lastJumpTime = currentTime;
+    }
+}
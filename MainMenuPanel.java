@@ -13,6 +13,9 @@ import java.awt.Graphics;
 import java.awt.Graphics2D;
 import java.awt.FontMetrics;
 import java.awt.RenderingHints;
+import java.util.ArrayList;
+import java.util.List;
+import javax.swing.Timer;
 
 public class MainMenuPanel extends JPanel {
     private final int PANEL_WIDTH = GameFrame.WIDTH;
@@ -25,6 +28,8 @@ public class MainMenuPanel extends JPanel {
     private ControlsPanel controlsPanel;
     private Image backgroundImage;
     private boolean startInHardMode = false;
+    private List<JButton> preloadGatedButtons = new ArrayList<>();
+    private Timer loadingTimer;
 
     public MainMenuPanel(GameInfo gameInfo) {
         this.gameInfo = gameInfo;
@@ -134,6 +139,18 @@ public class MainMenuPanel extends JPanel {
 
         add(mainMenuContentPanel);
 
+        // Gameplay buttons stay disabled until every asset is in memory and the game screen is built
+        preloadGatedButtons.add(startButton);
+        preloadGatedButtons.add(hardModeButton);
+        preloadGatedButtons.add(loadButton);
+        if (gameInfo.gamePanel == null) {
+            for (JButton button : preloadGatedButtons) {
+                button.setEnabled(false);
+            }
+            loadingTimer = new Timer(50, e -> updateLoadingProgress());
+            loadingTimer.start();
+        }
+
         characterSelectionPanel = new CharacterSelectionPanel(gameInfo);
         characterSelectionPanel.setBounds(0, 0, PANEL_WIDTH, PANEL_HEIGHT);
         characterSelectionPanel.setVisible(false);
@@ -171,6 +188,39 @@ public class MainMenuPanel extends JPanel {
             
             g.drawImage(backgroundImage, x, y, scaledWidth, scaledHeight, this);
         }
+
+        if (loadingTimer != null) {
+            drawLoadingProgress((Graphics2D) g);
+        }
+    }
+
+    private void updateLoadingProgress() {
+        if (gameInfo.gamePanel != null) {
+            loadingTimer.stop();
+            loadingTimer = null;
+            for (JButton button : preloadGatedButtons) {
+                button.setEnabled(true);
+            }
+        }
+        repaint();
+    }
+
+    private void drawLoadingProgress(Graphics2D g2d) {
+        int barX = 50;
+        int barY = PANEL_HEIGHT - 80;
+        int barWidth = 350;
+        int barHeight = 12;
+        double progress = AssetPreloader.getProgress();
+
+        g2d.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+        g2d.setColor(new Color(40, 40, 40, 220));
+        g2d.fillRoundRect(barX, barY, barWidth, barHeight, 8, 8);
+        g2d.setColor(Color.YELLOW);
+        g2d.fillRoundRect(barX, barY, (int)(barWidth * progress), barHeight, 8, 8);
+
+        g2d.setFont(new Font("Courier New", Font.BOLD, 18));
+        g2d.setColor(Color.WHITE);
+        g2d.drawString("Loading assets... " + (int)(progress * 100) + "%", barX, barY - 10);
     }
 
     private void showCharacterSelectionForStart() {
@@ -218,11 +268,8 @@ public class MainMenuPanel extends JPanel {
             gameInfo.gamePanel.setVisible(true);
             
             // Start game timers
-            if (gameInfo.gameTimer != null && !gameInfo.gameTimer.isRunning()) {
-                gameInfo.gameTimer.start();
-            }
-            if (gameInfo.zombieSpawnTimer != null && !gameInfo.zombieSpawnTimer.isRunning()) {
-                gameInfo.zombieSpawnTimer.start();
+            if (gameInfo.gameLoop != null && !gameInfo.gameLoop.isRunning()) {
+                gameInfo.gameLoop.start();
             }
             
             gameInfo.gamePanel.requestFocus();
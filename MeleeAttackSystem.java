@@ -0,0 +1,36 @@
+import java.util.List;
+
+// Zombies with a melee attack bite the player once in range and cooled down
+public class MeleeAttackSystem implements GameSystem {
+    private final GameInfo gameInfo;
+    private final Simulation simulation;
+    private final EntityRegistry.Query biters;
+
+    public MeleeAttackSystem(GameInfo gameInfo, Simulation simulation) {
+        this.gameInfo = gameInfo;
+        this.simulation = simulation;
+        this.biters = gameInfo.world.query(Components.Melee.class);
+    }
+
+    @Override
+    public void update(long currentTime) {
+        ZombieStore zombieStore = gameInfo.zombieStore;
+        List<Archetype> archetypes = biters.archetypes();
+        for (int a = 0; a < archetypes.size(); a++) {
+            Archetype archetype = archetypes.get(a);
+            for (int row = 0; row < archetype.size(); row++) {
+                Zombie zombie = (Zombie)archetype.getEntity(row);
+                int slot = zombie.storeSlot;
+                if (!zombieStore.isAttackReady(slot, currentTime)) {
+                    continue;
+                }
+                zombieStore.startAttack(slot, currentTime);
+                gameInfo.player.health -= zombie.damage;
+                gameInfo.player.startFlashEffect(simulation.scheduler);
+                if (gameInfo.statPanel != null) {
+                    gameInfo.statPanel.update();
+                }
+            }
+        }
+    }
+}
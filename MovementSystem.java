@@ -0,0 +1,17 @@
+// Walks every zombie toward the player over the zombie store's columns, then hands the new
+// positions back to the Zombie objects. Zombies another system moved this tick are skipped
+public class MovementSystem implements GameSystem {
+    private final GameInfo gameInfo;
+    private final Simulation simulation;
+
+    public MovementSystem(GameInfo gameInfo, Simulation simulation) {
+        this.gameInfo = gameInfo;
+        this.simulation = simulation;
+    }
+
+    @Override
+    public void update(long currentTime) {
+        gameInfo.zombieStore.move(simulation.background);
+        gameInfo.zombieStore.writeBack();
+    }
+}
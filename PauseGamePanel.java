@@ -170,11 +170,8 @@ public class PauseGamePanel extends JPanel {
         gameInfo.mainMenuPanel.setVisible(true);
         
         // Stop all game timers
-        if (gameInfo.gameTimer != null && gameInfo.gameTimer.isRunning()) {
-            gameInfo.gameTimer.stop();
-        }
-        if (gameInfo.zombieSpawnTimer != null && gameInfo.zombieSpawnTimer.isRunning()) {
-            gameInfo.zombieSpawnTimer.stop();
+        if (gameInfo.gameLoop != null && gameInfo.gameLoop.isRunning()) {
+            gameInfo.gameLoop.stop();
         }
     }
     
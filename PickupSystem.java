@@ -0,0 +1,68 @@
+import java.util.List;
+
+// The player collects any pickup it touches. Health is left lying if the player is already at full health
+public class PickupSystem implements GameSystem {
+    private final GameInfo gameInfo;
+    private final List<Drop> dropsToRemove;
+    private final EntityRegistry.Query healthPickups;
+    private final EntityRegistry.Query ammoPickups;
+
+    public PickupSystem(GameInfo gameInfo, List<Drop> dropsToRemove) {
+        this.gameInfo = gameInfo;
+        this.dropsToRemove = dropsToRemove;
+        this.healthPickups = gameInfo.world.query(Components.HealthPickup.class);
+        this.ammoPickups = gameInfo.world.query(Components.AmmoPickup.class);
+    }
+
+    @Override
+    public void update(long currentTime) {
+        Player player = gameInfo.player;
+
+        List<Archetype> archetypes = healthPickups.archetypes();
+        for (int a = 0; a < archetypes.size(); a++) {
+            Archetype archetype = archetypes.get(a);
+            Object[] pickups = archetype.column(Components.HealthPickup.class);
+            for (int row = 0; row < archetype.size(); row++) {
+                Drop drop = (Drop)archetype.getEntity(row);
+                if (player.health >= Player.PLAYER_HEALTH || !touches(player, drop)) {
+                    continue;
+                }
+                collect(drop);
+                int amount = ((Components.HealthPickup)pickups[row]).amount;
+                player.health = Math.min(Player.PLAYER_HEALTH, player.health + amount);
+            }
+        }
+
+        archetypes = ammoPickups.archetypes();
+        for (int a = 0; a < archetypes.size(); a++) {
+            Archetype archetype = archetypes.get(a);
+            Object[] pickups = archetype.column(Components.AmmoPickup.class);
+            for (int row = 0; row < archetype.size(); row++) {
+                Drop drop = (Drop)archetype.getEntity(row);
+                if (!touches(player, drop)) {
+                    continue;
+                }
+                collect(drop);
+                Components.AmmoPickup pickup = (Components.AmmoPickup)pickups[row];
+                for (Weapon weapon : player.weapons) {
+                    if (weapon != null && weapon.getClass().equals(pickup.weapon.getClass())) {
+                        weapon.addAmmo(pickup.amount);
+                        break;
+                    }
+                }
+            }
+        }
+    }
+
+    private boolean touches(Player player, Drop drop) {
+        return !drop.isCollected() && Collision.overlaps(player, drop);
+    }
+
+    private void collect(Drop drop) {
+        drop.collect();
+        dropsToRemove.add(drop);
+        if (gameInfo.statPanel != null) {
+            gameInfo.statPanel.update();
+        }
+    }
+}
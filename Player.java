@@ -3,7 +3,6 @@ import java.io.File;
 import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.util.ArrayList;
-import javax.imageio.ImageIO;
 
 public class Player extends Entity {
     private static final int PLAYER_WIDTH = 64;
@@ -56,7 +55,10 @@ public class Player extends Entity {
                 if (files != null && files.length > 0) {
                     walkingFrames = new BufferedImage[files.length];
                     for (int i = 0; i < files.length; i++) {
-                        walkingFrames[i] = ImageIO.read(files[i]);
+                        walkingFrames[i] = ImageCache.get(files[i]);
+                        if (walkingFrames[i] != null) {
+                            SpriteVariants.prepare(walkingFrames[i]);
+                        }
                     }
                 } else {
                     System.err.println("No PNG files found in walking directory: " + walkingDirPath);
@@ -74,7 +76,7 @@ public class Player extends Entity {
         this.isMoving = moving;
     }
 
-    public void updateAnimation() {
+    public void updateAnimation(long currentTime) {
         if (walkingFrames == null) {
             // Reload walking frames if they're null (after deserialization)
             String charNumString = (selectedCharacter < 10) ? "0" + selectedCharacter : String.valueOf(selectedCharacter);
@@ -83,7 +85,6 @@ public class Player extends Entity {
         }
         
         if (isMoving && walkingFrames != null && walkingFrames.length > 0) {
-            long currentTime = System.currentTimeMillis();
             if (currentTime - lastFrameTime > FRAME_DELAY) {
                 currentFrame = (currentFrame + 1) % walkingFrames.length;
                 image = walkingFrames[currentFrame];
@@ -98,60 +99,29 @@ public class Player extends Entity {
         }
     }
 
-    public void reload() {
+    public void reload(long currentTime, TickScheduler scheduler) {
         Weapon currentWeapon = this.currentWeapon;
 
         if (currentWeapon instanceof RocketLauncher) {
             return;
         }
 
-        currentWeapon.reload();
-        
-        if (currentWeapon.isReloading) {
-            new Thread(() -> {
-                try {
-                    Thread.sleep(currentWeapon.reloadTimeMs);
-                    
-                    int ammoNeeded = currentWeapon.maxAmmoInClip - currentWeapon.currentAmmo;
-                    if (currentWeapon.currentTotalAmmo >= ammoNeeded) {
-                        currentWeapon.currentAmmo += ammoNeeded;
-                        currentWeapon.currentTotalAmmo -= ammoNeeded;
-                    } else {
-                        currentWeapon.currentAmmo += currentWeapon.currentTotalAmmo;
-                        currentWeapon.currentTotalAmmo = 0;
-                    }
-                    
-                    currentWeapon.isReloading = false;
-                    currentWeapon.canShoot = true;
-                } catch (InterruptedException e) {
-                    e.printStackTrace();
-                }
-            }).start();
+        // Completes on the game tick, so ammo is only ever changed by the simulation thread
+        if (currentWeapon.reload(currentTime)) {
+            scheduler.schedule(currentWeapon.reloadTimeMs, currentWeapon::finishReload);
         }
     }
 
     public void updateGunPosition() {
         if (currentWeapon != null) {
-            // Position the gun relative to player facing direction
-            double offsetX = 50;
-            
-            // Calculate gun position based on player rotation
-            double angle = Math.toRadians(rotation);
-            
-            // If player is facing left, adjust the gun position
-            if (facingLeft) {
-                // Mirror the gun position when player is facing left
-                angle = Math.PI - angle;
-            }
-            
-            double gunX = getCenterX() + Math.cos(angle) * offsetX - currentWeapon.width / 2;
-            double gunY = getCenterY() + Math.sin(angle) * offsetX - currentWeapon.height / 2;
-            
-            currentWeapon.x = gunX;
-            currentWeapon.y = gunY;
-            
             // Set gun rotation to match player rotation
             currentWeapon.rotation = rotation;
+            
+            // Hold the gun half a body width out from the center
+            // Add 45-degree offset to compensate for tilted weapon image
+            double angle = Math.toRadians(rotation) + Math.toRadians(45);
+            currentWeapon.x = getCenterX() + Math.cos(angle) * (width / 2) - currentWeapon.width / 2;
+            currentWeapon.y = getCenterY() - currentWeapon.height / 2;
         }
     }
 
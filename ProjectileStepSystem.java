@@ -0,0 +1,45 @@
+import java.util.List;
+
+// Moves every projectile one step along its direction, remembering where it started so hits can be
+// swept along the whole move. Projectiles that leave the area around the view are dropped
+public class ProjectileStepSystem implements GameSystem {
+    private final Simulation simulation;
+    private final List<Bullet> bulletsToRemove;
+    private final EntityRegistry.Query projectiles;
+
+    public ProjectileStepSystem(GameInfo gameInfo, Simulation simulation, List<Bullet> bulletsToRemove) {
+        this.simulation = simulation;
+        this.bulletsToRemove = bulletsToRemove;
+        this.projectiles = gameInfo.world.query(Components.Projectile.class);
+    }
+
+    @Override
+    public void update(long currentTime) {
+        Camera camera = simulation.camera;
+        int viewWidth = camera.getWidth();
+        int viewHeight = camera.getHeight();
+
+        List<Archetype> archetypes = projectiles.archetypes();
+        for (int a = 0; a < archetypes.size(); a++) {
+            Archetype archetype = archetypes.get(a);
+            Object[] steps = archetype.column(Components.Projectile.class);
+            for (int row = 0; row < archetype.size(); row++) {
+                Bullet bullet = (Bullet)archetype.getEntity(row);
+                Components.Projectile projectile = (Components.Projectile)steps[row];
+                projectile.startX = bullet.getCenterX();
+                projectile.startY = bullet.getCenterY();
+
+                bullet.x += bullet.directionX * bullet.moveSpeed;
+                bullet.y += bullet.directionY * bullet.moveSpeed;
+
+                double screenX = camera.toScreenX(bullet.x);
+                double screenY = camera.toScreenY(bullet.y);
+                if (screenX < -viewWidth * 0.2 || screenX > viewWidth * 1.2
+                        || screenY < -viewHeight * 0.2 || screenY > viewHeight * 1.2) {
+                    projectile.spent = true;
+                    bulletsToRemove.add(bullet);
+                }
+            }
+        }
+    }
+}
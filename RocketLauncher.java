@@ -11,9 +11,9 @@ public class RocketLauncher extends Weapon {
     }
     
     @Override
-    public boolean canShoot() {
+    public boolean canShoot(long currentTime) {
         if (!canShoot) {
-            if (System.currentTimeMillis() - lastShotTime >= fireDelay) {
+            if (currentTime - lastShotTime >= fireDelay) {
                 canShoot = true;
             }
         }
@@ -21,10 +21,18 @@ public class RocketLauncher extends Weapon {
     }
     
     @Override
-    public void reload() {
+    public boolean reload(long currentTime) {
+        return false;
     }
     
+    // There's no reserve to reload from, so pickups go straight into the launcher
+    @Override
     public void addAmmo(int amount) {
         currentAmmo += amount;
     }
+
+    @Override
+    protected Object[] createBulletComponents() {
+        return new Object[] { new Components.Explosive(BLAST_RADIUS, hitSoundPath) };
+    }
 }
@@ -0,0 +1,53 @@
+import java.awt.AlphaComposite;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Sprites pre-rotated into fixed angle buckets so rotated entities draw without a transform
+public class RotatedSpriteCache {
+    public static final int ANGLE_BUCKETS = 64;
+
+    private static final Map<AtlasRegion, BufferedImage[]> rotations = new ConcurrentHashMap<>();
+
+    // Rotation in degrees, same convention as Entity.rotation
+    public static BufferedImage get(AtlasRegion region, double rotation) {
+        BufferedImage[] buckets = rotations.get(region);
+        if (buckets == null) {
+            buckets = rotations.computeIfAbsent(region, r -> new BufferedImage[ANGLE_BUCKETS]);
+        }
+
+        int bucket = getBucket(rotation);
+        BufferedImage rotated = buckets[bucket];
+        if (rotated == null) {
+            // Building the same bucket twice is harmless, both results are identical
+            rotated = createRotated(region, bucket * 360.0 / ANGLE_BUCKETS);
+            buckets[bucket] = rotated;
+        }
+        return rotated;
+    }
+
+    public static int getBucket(double rotation) {
+        int bucket = (int)Math.round(rotation * ANGLE_BUCKETS / 360.0) % ANGLE_BUCKETS;
+        return bucket < 0 ? bucket + ANGLE_BUCKETS : bucket;
+    }
+
+    private static BufferedImage createRotated(AtlasRegion region, double angle) {
+        int width = region.getWidth();
+        int height = region.getHeight();
+        // Square large enough to hold the sprite at any angle
+        int size = (int)Math.ceil(Math.sqrt(width * width + height * height));
+
+        BufferedImage rotated = ImageCache.createCompatibleImage(size, size);
+        Graphics2D g = rotated.createGraphics();
+        g.setComposite(AlphaComposite.Src);
+        g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_NEAREST_NEIGHBOR);
+        g.translate(size / 2.0, size / 2.0);
+        g.rotate(Math.toRadians(angle));
+        g.translate(-width / 2.0, -height / 2.0);
+        region.draw(g, 0, 0, width, height);
+        g.dispose();
+        return rotated;
+    }
+}
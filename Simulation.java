@@ -0,0 +1,605 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+// Game rules and world update with no Swing dependencies, so it can be stepped without a display
+public class Simulation {
+    protected static final int VIEW_WIDTH = GameFrame.WIDTH;
+    protected static final int VIEW_HEIGHT = GameFrame.HEIGHT - StatPanel.HEIGHT;
+
+    private GameInfo gameInfo;
+    private Random random;
+    // Game time for the tick in progress, sampled once from the clock
+    private long now;
+    // Reload completion and flash expiry come due on a tick
+    protected final TickScheduler scheduler = new TickScheduler();
+    protected final SpawnDirector spawnDirector;
+    // Zombies by position, rebuilt each tick once everything has been scrolled into place
+    protected final SpatialGrid<Zombie> zombieGrid = new SpatialGrid<>();
+    private final List<Zombie> nearbyZombies = new ArrayList<>();
+    // Zombies a bullet touched this tick, in the order it reached them
+    private final List<Zombie> sweptHits = new ArrayList<>();
+    private double[] sweptHitTimes = new double[16];
+    private final BlastResolver blastResolver;
+    // Zombies killed this tick, a set so blasts can skip the dead without scanning a list
+    private final Set<Zombie> zombiesToRemove = new LinkedHashSet<>();
+    // Reused every tick so a steady tick doesn't allocate its bookkeeping
+    private final List<Bullet> bulletsToRemove = new ArrayList<>();
+    private final List<Drop> dropsToRemove = new ArrayList<>();
+    private final List<Animation> animationsToRemove = new ArrayList<>();
+
+    // World behaviour, each over the entities with its components
+    private final ProjectileStepSystem projectileStep;
+    private final MeleeAttackSystem meleeAttack;
+    private final AcidAttackSystem acidAttack;
+    private final JumpSystem jump;
+    private final MovementSystem movement;
+    private final PickupSystem pickup;
+    private final AnimationPlaybackSystem animationPlayback;
+    private final GameSystem[] systems;
+    // Time spent in each system, in the same order as systems
+    private final long[] systemNanos;
+    // Projectiles in hit order, for the bullet pass
+    private final EntityRegistry.Query projectiles;
+
+    protected Background background;
+    // Follows the player; entities stay put in world coordinates
+    protected final Camera camera = new Camera(VIEW_WIDTH, VIEW_HEIGHT);
+    // Input state, written by the game panel or by a scripted driver; volatile since the panel writes
+    // it from the Swing thread while the game loop reads it
+    protected volatile boolean moveUp = false;
+    protected volatile boolean moveDown = false;
+    protected volatile boolean moveLeft = false;
+    protected volatile boolean moveRight = false;
+    protected volatile boolean firing = false;
+    private volatile boolean reloadRequested = false;
+    // Index into the player's weapons to switch to on the next tick, or -1
+    private volatile int requestedWeapon = -1;
+
+    public Simulation(GameInfo gameInfo) {
+        this(gameInfo, new Random());
+    }
+
+    public Simulation(GameInfo gameInfo, Random random) {
+        this.gameInfo = gameInfo;
+        this.random = random;
+        this.spawnDirector = new SpawnDirector(gameInfo, random, this::spawnZombie);
+        this.blastResolver = new BlastResolver(zombieGrid, gameInfo.world, scheduler, this::killZombie);
+
+        this.projectileStep = new ProjectileStepSystem(gameInfo, this, bulletsToRemove);
+        this.meleeAttack = new MeleeAttackSystem(gameInfo, this);
+        this.acidAttack = new AcidAttackSystem(gameInfo);
+        this.jump = new JumpSystem(gameInfo, this);
+        this.movement = new MovementSystem(gameInfo, this);
+        this.pickup = new PickupSystem(gameInfo, dropsToRemove);
+        this.animationPlayback = new AnimationPlaybackSystem(gameInfo, animationsToRemove);
+        this.systems = new GameSystem[] { projectileStep, meleeAttack, acidAttack, jump, movement, pickup, animationPlayback };
+        this.systemNanos = new long[systems.length];
+        this.projectiles = gameInfo.world.query(Components.Projectile.class);
+
+        background = new Background(
+            new String[]{
+                "assets/Background/tile_0000.png",
+                "assets/Background/tile_0001.png",
+                "assets/Background/tile_0002.png",
+                "assets/Background/tile_0043.png"
+            }, new String[]{
+                "assets/Background/tile_0027.png",
+                "assets/Background/tile_0028.png",
+            }
+        );
+    }
+
+    // Drop everything pending from the previous game and start spawning again
+    public void restart() {
+        scheduler.clear();
+        reloadRequested = false;
+        requestedWeapon = -1;
+        spawnDirector.reset();
+    }
+
+    // A saved weapon may have been mid-reload, finish it after whatever time it had left
+    public void resumeReloads() {
+        long currentTime = gameInfo.clock.now();
+        for (Weapon weapon : gameInfo.player.weapons) {
+            if (weapon.isReloading) {
+                long remaining = weapon.reloadStartTime + weapon.reloadTimeMs - currentTime;
+                scheduler.schedule(Math.max(0, remaining), weapon::finishReload);
+            }
+        }
+    }
+
+    public boolean isGameOver() {
+        return gameInfo.player.health <= 0;
+    }
+
+    public void clearInput() {
+        moveUp = false;
+        moveDown = false;
+        moveLeft = false;
+        moveRight = false;
+        firing = false;
+        reloadRequested = false;
+        requestedWeapon = -1;
+    }
+
+    // Picked up on the next tick, so the reload is scheduled from the game thread
+    public void requestReload() {
+        reloadRequested = true;
+    }
+
+    // Picked up on the next tick, so the weapon never changes halfway through one
+    public void requestWeapon(int index) {
+        requestedWeapon = index;
+    }
+
+    // Called by the spawn director with a position it has already checked
+    private void spawnZombie(int x, int y) {
+        int zombieVariety = 0;
+        if (gameInfo.currentWave <= 2) {
+            zombieVariety = 1;
+        } else if (gameInfo.currentWave <= 4) {
+            zombieVariety = 2;
+        } else if (gameInfo.currentWave <= 6) {
+            zombieVariety = 3;
+        } else {
+            zombieVariety = 4;
+        }
+        int randomNumber = random.nextInt(zombieVariety);
+        Zombie newZombie;
+
+        if (randomNumber == 0) {
+            newZombie = new NormalZombie(x, y);
+        } else if (randomNumber == 1) {
+            newZombie = new ReptileZombie(x, y);
+        } else if (randomNumber == 2) {
+            newZombie = new TankZombie(x, y);
+        } else {
+            newZombie = new AcidicZombie(x, y);
+        }
+
+        newZombie.moveSpeed *= gameInfo.currentZombieSpeedMultiplier;
+        newZombie.spawnedAt(gameInfo.clock.now());
+        gameInfo.addZombie(newZombie);
+    }
+
+    // Put the player in the middle of the current view, or the nearest open spot to it
+    public void centerPlayer() {
+        int centerX = (int)camera.getX() + (VIEW_WIDTH / 2) - (gameInfo.player.width / 2);
+        int centerY = (int)camera.getY() + (VIEW_HEIGHT / 2) - (gameInfo.player.height / 2);
+        int x = centerX;
+        int y = centerY;
+        
+        // Check if this is a valid spawn position (not on an obstacle)
+        boolean validPosition = background.isValidSpawnPosition(x, y, gameInfo.player.width, gameInfo.player.height);
+        
+        // If the center position isn't valid, find a nearby valid position using a spiral search pattern
+        if (!validPosition) {
+            int searchRadius = 25;
+            int spiralX = 0;
+            int spiralY = 0;
+            int spiralDx = 0;
+            int spiralDy = -1;
+            
+            // Search up to 25 tile cells away (should be enough to find an empty spot)
+            for (int i = 0; i < searchRadius * searchRadius; i++) {
+                // Try the current position in the spiral
+                int testX = x + (spiralX * background.TILE_SIZE);
+                int testY = y + (spiralY * background.TILE_SIZE);
+                
+                if (background.isValidSpawnPosition(testX, testY, gameInfo.player.width, gameInfo.player.height)) {
+                    // Found a valid position
+                    x = testX;
+                    y = testY;
+                    validPosition = true;
+                    break;
+                }
+                
+                // Move to the next position in the spiral
+                if (spiralX == spiralY || (spiralX < 0 && spiralX == -spiralY) || (spiralX > 0 && spiralX == 1-spiralY)) {
+                    // Change direction when we hit a corner in the spiral
+                    int temp = spiralDx;
+                    spiralDx = -spiralDy;
+                    spiralDy = temp;
+                }
+                spiralX += spiralDx;
+                spiralY += spiralDy;
+            }
+            
+            // If we still couldn't find a valid position, use the original center (fallback)
+            // This is very unlikely but we should handle it anyway
+            if (!validPosition) {
+                x = centerX;
+                y = centerY;
+            }
+        }
+        
+        // Set player position
+        gameInfo.player.x = x;
+        gameInfo.player.y = y;
+        gameInfo.player.hasPreviousPosition = false;
+        camera.snapTo(gameInfo.player);
+    }
+
+    private void shootBullet(Weapon currentWeapon) {
+        if (currentWeapon.isReloading) {
+            return;
+        }
+
+        currentWeapon.currentAmmo -= 1;
+        if (currentWeapon.currentAmmo < 0) {
+            currentWeapon.currentAmmo = 0;
+            return;
+        }
+        if (gameInfo.statPanel != null) {
+            gameInfo.statPanel.update();
+        }
+        double centerX = currentWeapon.getCenterX();
+        double centerY = currentWeapon.getCenterY();
+
+        if (currentWeapon instanceof Shotgun) {
+            int bulletCount = 9;
+            double spreadAngle = 5.0;
+            double startAngle = currentWeapon.rotation - (spreadAngle * (bulletCount - 1) / 2);
+            
+            for (int i = 0; i < bulletCount; i++) {
+                Bullet bullet = Bullet.Pool.getBullet(centerX, centerY, currentWeapon);
+                
+                // Calculate angle for this bullet
+                double bulletAngle = startAngle + (spreadAngle * i);
+                double angleRadians = Math.toRadians(bulletAngle);
+                
+                bullet.directionX = Math.cos(angleRadians);
+                bullet.directionY = Math.sin(angleRadians);
+                bullet.rotation = bulletAngle;
+                
+                gameInfo.addBullet(bullet);
+            }
+        } else {
+            Bullet bullet = Bullet.Pool.getBullet(centerX, centerY, currentWeapon);
+
+            double shootingAngleOffset = 0;
+            if (currentWeapon != null) {
+                shootingAngleOffset = currentWeapon.shootingAngle;
+            }
+
+            // Generate random angle within the gun's shooting angle range
+            double randomSpread = random.nextDouble() * shootingAngleOffset - (shootingAngleOffset / 2);
+
+            // Apply the player rotation plus random spread
+            double finalAngle = currentWeapon.rotation + randomSpread;
+            double angleRadians = Math.toRadians(finalAngle);
+
+            bullet.directionX = Math.cos(angleRadians);
+            bullet.directionY = Math.sin(angleRadians);
+            bullet.rotation = finalAngle;
+
+            gameInfo.addBullet(bullet);
+        }
+    }
+
+    // Game update loop, advances the world by one fixed step
+    public void tick() {
+        if (gameInfo.isPaused) {
+            return;
+        }
+
+        if (isGameOver()) {
+            gameInfo.player.health = 0;
+            return;
+        }
+
+        gameInfo.clock.tick();
+        now = gameInfo.clock.now();
+        scheduler.advance();
+        spawnDirector.tick(background, camera);
+
+        savePreviousPositions();
+
+        int weaponIndex = requestedWeapon;
+        if (weaponIndex >= 0) {
+            requestedWeapon = -1;
+            if (weaponIndex < gameInfo.player.weapons.size()) {
+                gameInfo.player.currentWeapon = gameInfo.player.weapons.get(weaponIndex);
+                if (gameInfo.statPanel != null) {
+                    gameInfo.statPanel.update();
+                }
+            }
+        }
+
+        // Shots leave from where the gun is aimed this tick
+        gameInfo.player.updateGunPosition();
+        Weapon currentWeapon = gameInfo.player.currentWeapon;
+
+        if (reloadRequested) {
+            reloadRequested = false;
+            gameInfo.player.reload(now, scheduler);
+        }
+
+        if (firing && currentWeapon.canShoot(now)) {
+            shootBullet(currentWeapon);
+            currentWeapon.shoot(now);
+        }
+
+        // Handle player movement
+        double horizontalMovement = 0;
+        double verticalMovement = 0;
+        
+        Player player = gameInfo.player;
+        if (moveUp) verticalMovement -= player.moveSpeed;
+        if (moveDown) verticalMovement += player.moveSpeed;
+        if (moveLeft) horizontalMovement -= player.moveSpeed;
+        if (moveRight) horizontalMovement += player.moveSpeed;
+
+        // Set player animation state based on movement
+        boolean isMoving = (horizontalMovement != 0 || verticalMovement != 0);
+        gameInfo.player.setMoving(isMoving);
+        gameInfo.player.updateAnimation(now);
+
+        // Normalize the direction vector
+        double movementLength = Math.sqrt(horizontalMovement * horizontalMovement + verticalMovement * verticalMovement);
+        if (movementLength > 0) {
+            horizontalMovement /= movementLength;
+            verticalMovement /= movementLength;
+        }
+        if (horizontalMovement != 0 || verticalMovement != 0) {
+            double moveX = horizontalMovement * player.moveSpeed;
+            double moveY = verticalMovement * player.moveSpeed;
+            // Only the player moves, the camera follows it below
+            if (background.isValidMove(player, moveX, moveY)) {
+                player.x += moveX;
+                player.y += moveY;
+            }
+        }
+        camera.follow(player);
+        
+        zombieGrid.rebuild(gameInfo.zombies);
+
+        // Systems collect what leaves the world this tick, it's all removed at the end
+        bulletsToRemove.clear();
+        zombiesToRemove.clear();
+        dropsToRemove.clear();
+        animationsToRemove.clear();
+
+        run(projectileStep);
+        resolveBulletHits();
+
+        // Every zombie system below reads this tick's direction and distance to the player
+        gameInfo.zombieStore.aim(gameInfo.player.getCenterX(), gameInfo.player.getCenterY());
+        run(meleeAttack);
+        run(acidAttack);
+        run(jump);
+        run(movement);
+
+        run(pickup);
+        run(animationPlayback);
+
+        // Remove animations that have finished
+        gameInfo.removeAnimations(animationsToRemove);
+
+        // Remove bullets that are off screen or have hit something
+        gameInfo.removeBullets(bulletsToRemove);
+
+        // Remove zombies that were hit
+        gameInfo.removeZombies(zombiesToRemove);
+
+        // Remove collected drops
+        gameInfo.removeDrops(dropsToRemove);
+
+        // Update zombies killed count
+        gameInfo.zombiesKilled += zombiesToRemove.size();
+        
+        // Update zombies remaining count
+        gameInfo.updateZombiesRemaining(gameInfo.zombies.size());
+        
+        // Check if we need to advance to the next wave
+        gameInfo.incrementWaveIfNeeded();
+    }
+
+    // Damage from everything the projectiles passed through on this tick's step
+    private void resolveBulletHits() {
+        List<Archetype> archetypes = projectiles.archetypes();
+        for (int a = 0; a < archetypes.size(); a++) {
+            Archetype archetype = archetypes.get(a);
+            Object[] steps = archetype.column(Components.Projectile.class);
+            Object[] explosives = archetype.column(Components.Explosive.class);
+            boolean piercing = archetype.has(Components.Piercing.class);
+            for (int row = 0; row < archetype.size(); row++) {
+                Bullet bullet = (Bullet)archetype.getEntity(row);
+                Components.Projectile projectile = (Components.Projectile)steps[row];
+                if (projectile.spent) {
+                    continue;
+                }
+
+                if (bullet.isZombieBullet()) {
+                    // Check collision with player
+                    if (Collision.sweep(projectile.startX, projectile.startY, bullet.getCenterX(), bullet.getCenterY(),
+                                        bullet.getHitWidth() / 2.0, bullet.getHitHeight() / 2.0, gameInfo.player) != Collision.MISS) {
+                        gameInfo.player.health -= bullet.getDamage();
+                        gameInfo.player.startFlashEffect(scheduler);
+                        if (gameInfo.statPanel != null) {
+                            gameInfo.statPanel.update();
+                        }
+                        projectile.spent = true;
+                        bulletsToRemove.add(bullet);
+                    }
+                    continue;
+                }
+
+                collectSweptHits(bullet, projectile.startX, projectile.startY);
+                for (int i = 0; i < sweptHits.size(); i++) {
+                    Zombie zombie = sweptHits.get(i);
+                    // Killed earlier in this sweep, e.g. by an acid blast from a zombie in front of it
+                    if (zombiesToRemove.contains(zombie)) {
+                        continue;
+                    }
+                    if (explosives != null) {
+                        explode(zombie, (Components.Explosive)explosives[row], bullet.getDamage());
+                    } else {
+                        zombie.health -= bullet.getDamage();
+                        zombie.startFlashEffect(scheduler);
+                        if (zombie.health <= 0) {
+                            killZombie(zombie);
+                            Components.AcidAttack acid = gameInfo.world.getComponent(zombie, Components.AcidAttack.class);
+                            if (acid != null) {
+                                blastResolver.resolve(zombie, acid.blastRadius, bullet.getDamage(), zombiesToRemove);
+                            }
+                        }
+                    }
+                    bullet.markHit(zombie, gameInfo.world);
+                    if (!piercing) {
+                        projectile.spent = true;
+                        bulletsToRemove.add(bullet);
+                        break;
+                    }
+                }
+            }
+        }
+    }
+
+    private void explode(Zombie zombie, Components.Explosive explosive, double damage) {
+        GameInfo.playSound(explosive.hitSoundPath);
+        blastResolver.resolve(zombie, explosive.radius, damage, zombiesToRemove);
+
+        int explosionSize = (int)(explosive.radius * 1.5);
+        Animation explosion = new Animation(
+            zombie.getCenterX() - explosionSize/2,
+            zombie.getCenterY() - explosionSize/2,
+            explosionSize, explosionSize, 50, false, FrameSet.RPG_EXPLOSION,
+            FrameSet.get(FrameSet.RPG_EXPLOSION));
+        gameInfo.addAnimation(explosion);
+    }
+
+    private void run(GameSystem system) {
+        long start = System.nanoTime();
+        system.update(now);
+        for (int i = 0; i < systems.length; i++) {
+            if (systems[i] == system) {
+                systemNanos[i] += System.nanoTime() - start;
+                return;
+            }
+        }
+    }
+
+    // Total time spent in each system since the simulation started, by system name
+    public Map<String, Long> getSystemTimes() {
+        Map<String, Long> times = new LinkedHashMap<>();
+        for (int i = 0; i < systems.length; i++) {
+            times.put(systems[i].getClass().getSimpleName(), systemNanos[i]);
+        }
+        return times;
+    }
+
+    // Zombies whose bounds the bullet's hit box passes through between the two centers, nearest first
+    private void collectSweptHits(Bullet bullet, double startX, double startY) {
+        double halfWidth = bullet.getHitWidth() / 2.0;
+        double halfHeight = bullet.getHitHeight() / 2.0;
+        double endX = bullet.getCenterX();
+        double endY = bullet.getCenterY();
+
+        nearbyZombies.clear();
+        sweptHits.clear();
+        zombieGrid.querySegment(startX, startY, endX, endY, Math.max(halfWidth, halfHeight), nearbyZombies);
+        for (int i = 0; i < nearbyZombies.size(); i++) {
+            Zombie zombie = nearbyZombies.get(i);
+            // A piercing bullet still overlapping a zombie from last tick doesn't hit it again,
+            // and nothing hits a zombie an earlier blast already killed this tick
+            if (bullet.hasHit(zombie) || zombiesToRemove.contains(zombie)) {
+                continue;
+            }
+            double time = Collision.sweep(startX, startY, endX, endY, halfWidth, halfHeight, zombie);
+            if (time == Collision.MISS) {
+                continue;
+            }
+
+            // Insertion sort, a bullet only ever touches a handful of zombies in one tick
+            if (sweptHits.size() == sweptHitTimes.length) {
+                sweptHitTimes = Arrays.copyOf(sweptHitTimes, sweptHitTimes.length * 2);
+            }
+            int index = sweptHits.size();
+            sweptHits.add(zombie);
+            while (index > 0 && sweptHitTimes[index - 1] > time) {
+                sweptHitTimes[index] = sweptHitTimes[index - 1];
+                sweptHits.set(index, sweptHits.get(index - 1));
+                index--;
+            }
+            sweptHitTimes[index] = time;
+            sweptHits.set(index, zombie);
+        }
+    }
+
+    // Remember where everything was before this tick moves it
+    private void savePreviousPositions() {
+        camera.savePreviousPosition();
+        gameInfo.player.savePreviousPosition();
+        for (Bullet bullet : gameInfo.bullets) {
+            bullet.savePreviousPosition();
+        }
+        for (Zombie zombie : gameInfo.zombies) {
+            zombie.savePreviousPosition();
+        }
+        for (Drop drop : gameInfo.drops) {
+            drop.savePreviousPosition();
+        }
+        for (Animation animation : gameInfo.animations) {
+            animation.savePreviousPosition();
+        }
+    }
+
+    // Score and loot for a zombie that just died; it leaves the world at the end of the tick
+    private void killZombie(Zombie zombie) {
+        zombiesToRemove.add(zombie);
+        gameInfo.player.kills++;
+        gameInfo.player.score += zombie.score;
+        createLootDrop(zombie);
+        Components.AcidAttack acid = gameInfo.world.getComponent(zombie, Components.AcidAttack.class);
+        if (acid != null) {
+            Animation blastAnimation = new Animation(
+                zombie.getCenterX() - acid.blastRadius/2,
+                zombie.getCenterY() - acid.blastRadius/2,
+                acid.blastRadius, acid.blastRadius, 50, false, FrameSet.ACIDIC_ZOMBIE_EXPLOSION,
+                FrameSet.get(FrameSet.ACIDIC_ZOMBIE_EXPLOSION));
+            gameInfo.addAnimation(blastAnimation);
+        }
+    }
+
+    private void createLootDrop(Zombie zombie) {
+        if (random.nextFloat() < GameInfo.HEALTH_DROP_CHANCE) {
+            HealthDrop healthDrop = new HealthDrop(zombie.getCenterX(), zombie.getCenterY());
+            gameInfo.addDrop(healthDrop);
+        } else if (random.nextFloat() < GameInfo.AMMO_DROP_CHANCE) {
+            Weapon randomWeapon;
+            int randomWeaponVariety;
+            if (gameInfo.currentWave == 1) {
+                randomWeaponVariety = -1;
+            } else if (gameInfo.currentWave <= 3) {
+                randomWeaponVariety = 1;
+            } else if (gameInfo.currentWave <= 5) {
+                randomWeaponVariety = 2;
+            } else if (gameInfo.currentWave <= 10) {
+                randomWeaponVariety = 3;
+            } else {
+                randomWeaponVariety = 4;
+            }
+            if (randomWeaponVariety != -1) {
+                int randomWeaponNumber = random.nextInt(randomWeaponVariety);
+                if (randomWeaponNumber == 0) {
+                    randomWeapon = new Rifle();
+                } else if (randomWeaponNumber == 1) {
+                    randomWeapon = new Shotgun();
+                } else if (randomWeaponNumber == 2) {
+                    randomWeapon = new Sniper();
+                } else {
+                    randomWeapon = new RocketLauncher();
+                }
+                AmmoDrop ammoDrop = new AmmoDrop(zombie.getCenterX(), zombie.getCenterY(), randomWeapon, gameInfo);
+                gameInfo.addDrop(ammoDrop);
+            }
+        }
+    }
+}
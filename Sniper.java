@@ -6,4 +6,9 @@ public class Sniper extends Weapon {
         this.appearanceImagePath = "assets/Weapons/sniper.png";
         setImage(new File(appearanceImagePath));
     }
+
+    @Override
+    protected Object[] createBulletComponents() {
+        return new Object[] { new Components.Piercing() };
+    }
 }
@@ -0,0 +1,116 @@
+import java.io.File;
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.AudioInputStream;
+import javax.sound.sampled.AudioSystem;
+import javax.sound.sampled.UnsupportedAudioFileException;
+
+// Sound effects decoded once into the mixer's sample format and kept in memory
+public class SoundBank {
+    public static final float MIX_SAMPLE_RATE = 48000f;
+    public static final int MIX_CHANNELS = 2;
+    public static final AudioFormat MIX_FORMAT = new AudioFormat(MIX_SAMPLE_RATE, 16, MIX_CHANNELS, true, false);
+
+    public static class Sound {
+        protected final String path;
+        // Interleaved stereo samples at MIX_SAMPLE_RATE
+        protected final short[] samples;
+        protected final int frameCount;
+
+        public Sound(String path, short[] samples) {
+            this.path = path;
+            this.samples = samples;
+            this.frameCount = samples.length / MIX_CHANNELS;
+        }
+
+        public String getPath() {
+            return path;
+        }
+
+        public short[] getSamples() {
+            return samples;
+        }
+
+        public int getFrameCount() {
+            return frameCount;
+        }
+    }
+
+    private static final Map<String, Sound> sounds = new ConcurrentHashMap<>();
+
+    public static Sound get(String path) {
+        if (path == null) {
+            return null;
+        }
+        String key = new File(path).getPath();
+        Sound sound = sounds.get(key);
+        if (sound != null) {
+            return sound;
+        }
+        return sounds.computeIfAbsent(key, SoundBank::load);
+    }
+
+    public static int size() {
+        return sounds.size();
+    }
+
+    private static Sound load(String path) {
+        File soundFile = new File(path);
+        if (!soundFile.exists()) {
+            System.err.println("Sound file not found: " + path);
+            return null;
+        }
+        try (AudioInputStream fileStream = AudioSystem.getAudioInputStream(soundFile)) {
+            AudioFormat format = fileStream.getFormat();
+
+            // Decode to 16 bit little-endian PCM at the file's own rate and channel count
+            AudioFormat pcmFormat = new AudioFormat(format.getSampleRate(), 16, format.getChannels(), true, false);
+            byte[] data;
+            if (format.matches(pcmFormat)) {
+                data = fileStream.readAllBytes();
+            } else {
+                try (AudioInputStream pcmStream = AudioSystem.getAudioInputStream(pcmFormat, fileStream)) {
+                    data = pcmStream.readAllBytes();
+                }
+            }
+
+            return new Sound(path, toMixFormat(data, format.getChannels(), format.getSampleRate()));
+        } catch (UnsupportedAudioFileException | IOException | IllegalArgumentException e) {
+            System.err.println("Error loading sound: " + path + " - " + e.getMessage());
+            return null;
+        }
+    }
+
+    // Resample linearly to the mix rate and map channels to stereo
+    private static short[] toMixFormat(byte[] data, int channels, float sampleRate) {
+        int sourceFrames = data.length / (channels * 2);
+        if (sourceFrames == 0) {
+            return new short[0];
+        }
+        double step = sampleRate / MIX_SAMPLE_RATE;
+        int targetFrames = (int)(sourceFrames / step);
+        short[] samples = new short[targetFrames * MIX_CHANNELS];
+
+        for (int frame = 0; frame < targetFrames; frame++) {
+            double sourcePosition = frame * step;
+            int index = (int)sourcePosition;
+            int next = Math.min(index + 1, sourceFrames - 1);
+            double fraction = sourcePosition - index;
+
+            for (int channel = 0; channel < MIX_CHANNELS; channel++) {
+                int sourceChannel = Math.min(channel, channels - 1);
+                int a = readSample(data, index, sourceChannel, channels);
+                int b = readSample(data, next, sourceChannel, channels);
+                samples[frame * MIX_CHANNELS + channel] = (short)Math.round(a + (b - a) * fraction);
+            }
+        }
+        return samples;
+    }
+
+    private static int readSample(byte[] data, int frame, int channel, int channels) {
+        int offset = (frame * channels + channel) * 2;
+        return (short)((data[offset] & 0xFF) | (data[offset + 1] << 8));
+    }
+}
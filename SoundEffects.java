@@ -0,0 +1,183 @@
+import java.io.File;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.sound.sampled.AudioSystem;
+import javax.sound.sampled.LineUnavailableException;
+import javax.sound.sampled.SourceDataLine;
+
+// Software mixer: one thread sums the active voices into a single SourceDataLine
+public class SoundEffects {
+    private static final int MAX_VOICES = 24;
+    private static final int DEFAULT_VOICES_PER_SOUND = 6;
+    private static final int MAX_PENDING = 64;
+    // 256 frames at 48 kHz is about 5 ms of audio per mix pass
+    private static final int BUFFER_FRAMES = 256;
+
+    private static class Voice {
+        SoundBank.Sound sound;
+        int position;
+        float gain;
+        long startOrder;
+        boolean active;
+    }
+
+    private static final BlockingQueue<String> pending = new ArrayBlockingQueue<>(MAX_PENDING);
+    private static final Map<String, Integer> voicesPerSound = new ConcurrentHashMap<>();
+    private static final Voice[] voices = new Voice[MAX_VOICES];
+    private static final int[] mixBuffer = new int[BUFFER_FRAMES * SoundBank.MIX_CHANNELS];
+    private static final byte[] outputBuffer = new byte[BUFFER_FRAMES * SoundBank.MIX_CHANNELS * 2];
+    private static long startCounter = 0;
+
+    static {
+        // Rapid-fire and crowd sounds get tighter caps so they can't take every voice
+        setVoiceCap("assets/WeaponSounds/Firing/rifle.wav", 4);
+        setVoiceCap("assets/WeaponSounds/Firing/shotgun.wav", 3);
+        setVoiceCap("assets/WeaponSounds/Firing/spitting.wav", 4);
+        setVoiceCap("assets/WeaponSounds/Hit/rocket_launcher.wav", 3);
+
+        for (int i = 0; i < MAX_VOICES; i++) {
+            voices[i] = new Voice();
+        }
+        Thread mixer = new Thread(SoundEffects::mixLoop, "SoundEffects");
+        mixer.setDaemon(true);
+        mixer.start();
+    }
+
+    public static void setVoiceCap(String soundPath, int cap) {
+        voicesPerSound.put(new File(soundPath).getPath(), cap);
+    }
+
+    // Non-blocking, safe to call from the game loop; requests are dropped if the queue is full
+    public static void play(String soundPath) {
+        if (soundPath != null) {
+            pending.offer(soundPath);
+        }
+    }
+
+    private static void mixLoop() {
+        SourceDataLine line;
+        try {
+            line = AudioSystem.getSourceDataLine(SoundBank.MIX_FORMAT);
+            line.open(SoundBank.MIX_FORMAT, outputBuffer.length * 4);
+            line.start();
+        } catch (LineUnavailableException | IllegalArgumentException e) {
+            System.err.println("Error opening sound effect line: " + e.getMessage());
+            discardRequests();
+            return;
+        }
+
+        try {
+            while (true) {
+                if (!hasActiveVoices()) {
+                    // Sleep until something needs to play instead of mixing silence
+                    startVoice(pending.take());
+                }
+                String soundPath;
+                while ((soundPath = pending.poll()) != null) {
+                    startVoice(soundPath);
+                }
+                mix();
+                // Blocks while the line's buffer is full, which paces the loop
+                line.write(outputBuffer, 0, outputBuffer.length);
+            }
+        } catch (InterruptedException e) {
+            line.close();
+        }
+    }
+
+    private static void discardRequests() {
+        try {
+            while (true) {
+                pending.take();
+            }
+        } catch (InterruptedException e) {
+            // Exit quietly
+        }
+    }
+
+    private static boolean hasActiveVoices() {
+        for (Voice voice : voices) {
+            if (voice.active) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void startVoice(String soundPath) {
+        SoundBank.Sound sound = SoundBank.get(soundPath);
+        if (sound == null || sound.getFrameCount() == 0) {
+            return;
+        }
+
+        int cap = voicesPerSound.getOrDefault(sound.getPath(), DEFAULT_VOICES_PER_SOUND);
+        int playing = 0;
+        Voice oldestSame = null;
+        Voice oldest = null;
+        Voice free = null;
+        for (Voice voice : voices) {
+            if (!voice.active) {
+                if (free == null) {
+                    free = voice;
+                }
+                continue;
+            }
+            if (voice.sound == sound) {
+                playing++;
+                if (oldestSame == null || voice.startOrder < oldestSame.startOrder) {
+                    oldestSame = voice;
+                }
+            }
+            if (oldest == null || voice.startOrder < oldest.startOrder) {
+                oldest = voice;
+            }
+        }
+
+        // Steal the oldest copy of this sound once its cap is reached, else the oldest voice overall
+        Voice voice;
+        if (playing >= cap) {
+            voice = oldestSame;
+        } else if (free != null) {
+            voice = free;
+        } else {
+            voice = oldest;
+        }
+
+        voice.sound = sound;
+        voice.position = 0;
+        voice.gain = MusicPlayer.getSfxVolume();
+        voice.startOrder = startCounter++;
+        voice.active = true;
+    }
+
+    private static void mix() {
+        Arrays.fill(mixBuffer, 0);
+
+        for (Voice voice : voices) {
+            if (!voice.active) {
+                continue;
+            }
+            short[] samples = voice.sound.getSamples();
+            int start = voice.position * SoundBank.MIX_CHANNELS;
+            int count = Math.min(mixBuffer.length, samples.length - start);
+            float gain = voice.gain;
+            for (int i = 0; i < count; i++) {
+                mixBuffer[i] += (int)(samples[start + i] * gain);
+            }
+            voice.position += count / SoundBank.MIX_CHANNELS;
+            if (voice.position >= voice.sound.getFrameCount()) {
+                voice.active = false;
+                voice.sound = null;
+            }
+        }
+
+        for (int i = 0; i < mixBuffer.length; i++) {
+            int sample = Math.max(Short.MIN_VALUE, Math.min(Short.MAX_VALUE, mixBuffer[i]));
+            outputBuffer[i * 2] = (byte)sample;
+            outputBuffer[i * 2 + 1] = (byte)(sample >> 8);
+        }
+    }
+}
@@ -0,0 +1,175 @@
+import java.util.ArrayList;
+import java.util.List;
+
+// Uniform spatial hash of entity centers, rebuilt once per tick, so collision checks only
+// look at the entities near a point instead of every entity in the world
+public class SpatialGrid<T extends Entity> {
+    protected static final int CELL_SIZE = 128;
+    // Power of two so a cell hash can be masked into a bucket
+    private static final int BUCKET_COUNT = 1024;
+    private static final int BUCKET_MASK = BUCKET_COUNT - 1;
+
+    private final List<List<T>> buckets = new ArrayList<>(BUCKET_COUNT);
+    private final int[] usedBuckets = new int[BUCKET_COUNT];
+    private int usedBucketCount = 0;
+    // Stamped per query so a bucket shared by two cells is only read once
+    private final int[] visitedStamp = new int[BUCKET_COUNT];
+    private int queryStamp = 0;
+    // Largest half size of anything inserted, added around queries so overlapping edges aren't missed
+    private double maxHalfExtent = 0;
+    private int size = 0;
+
+    public SpatialGrid() {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            buckets.add(new ArrayList<>());
+        }
+    }
+
+    public void rebuild(List<? extends T> entities) {
+        clear();
+        // Indexed loops here and below, an iterator per bucket adds up over a whole tick
+        for (int i = 0; i < entities.size(); i++) {
+            insert(entities.get(i));
+        }
+    }
+
+    public void clear() {
+        for (int i = 0; i < usedBucketCount; i++) {
+            buckets.get(usedBuckets[i]).clear();
+        }
+        usedBucketCount = 0;
+        maxHalfExtent = 0;
+        size = 0;
+    }
+
+    public void insert(T entity) {
+        int bucket = bucketFor(cellOf(entity.getCenterX()), cellOf(entity.getCenterY()));
+        List<T> list = buckets.get(bucket);
+        if (list.isEmpty()) {
+            usedBuckets[usedBucketCount++] = bucket;
+        }
+        list.add(entity);
+        maxHalfExtent = Math.max(maxHalfExtent, Math.max(entity.width, entity.height) / 2.0);
+        size++;
+    }
+
+    // Adds everything whose body could overlap the box; callers still do the exact test
+    public void query(double minX, double minY, double maxX, double maxY, List<T> result) {
+        collect(minX - maxHalfExtent, minY - maxHalfExtent, maxX + maxHalfExtent, maxY + maxHalfExtent, result);
+    }
+
+    // Adds everything whose center is strictly closer than the radius
+    public void queryRadius(double centerX, double centerY, double radius, List<T> result) {
+        int start = result.size();
+        collect(centerX - radius, centerY - radius, centerX + radius, centerY + radius, result);
+
+        int kept = start;
+        for (int i = start; i < result.size(); i++) {
+            T entity = result.get(i);
+            double dx = entity.getCenterX() - centerX;
+            double dy = entity.getCenterY() - centerY;
+            if (dx * dx + dy * dy < radius * radius) {
+                result.set(kept++, entity);
+            }
+        }
+        while (result.size() > kept) {
+            result.remove(result.size() - 1);
+        }
+    }
+
+    // Adds everything whose body could touch a box of the given half size moving along the segment.
+    // Walks the cells the segment crosses, so the cost follows the distance travelled
+    public void querySegment(double x0, double y0, double x1, double y1, double halfExtent, List<T> result) {
+        if (size == 0) {
+            return;
+        }
+        queryStamp++;
+
+        double reach = maxHalfExtent + halfExtent;
+        int ring = (int)Math.ceil(reach / CELL_SIZE);
+        double minX = Math.min(x0, x1) - reach;
+        double minY = Math.min(y0, y1) - reach;
+        double maxX = Math.max(x0, x1) + reach;
+        double maxY = Math.max(y0, y1) + reach;
+
+        int cellX = cellOf(x0);
+        int cellY = cellOf(y0);
+        int endCellX = cellOf(x1);
+        int endCellY = cellOf(y1);
+
+        double dx = x1 - x0;
+        double dy = y1 - y0;
+        int stepX = dx > 0 ? 1 : -1;
+        int stepY = dy > 0 ? 1 : -1;
+        // Fraction of the segment at which the next vertical / horizontal cell border is crossed
+        double nextX = dx == 0 ? Double.POSITIVE_INFINITY
+                               : ((stepX > 0 ? cellX + 1 : cellX) * (double)CELL_SIZE - x0) / dx;
+        double nextY = dy == 0 ? Double.POSITIVE_INFINITY
+                               : ((stepY > 0 ? cellY + 1 : cellY) * (double)CELL_SIZE - y0) / dy;
+        double deltaX = dx == 0 ? Double.POSITIVE_INFINITY : CELL_SIZE / Math.abs(dx);
+        double deltaY = dy == 0 ? Double.POSITIVE_INFINITY : CELL_SIZE / Math.abs(dy);
+
+        int steps = Math.abs(endCellX - cellX) + Math.abs(endCellY - cellY);
+        for (int i = 0; i <= steps; i++) {
+            for (int neighbourY = cellY - ring; neighbourY <= cellY + ring; neighbourY++) {
+                for (int neighbourX = cellX - ring; neighbourX <= cellX + ring; neighbourX++) {
+                    collectBucket(bucketFor(neighbourX, neighbourY), minX, minY, maxX, maxY, result);
+                }
+            }
+            if (nextX < nextY) {
+                cellX += stepX;
+                nextX += deltaX;
+            } else {
+                cellY += stepY;
+                nextY += deltaY;
+            }
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private void collect(double minX, double minY, double maxX, double maxY, List<T> result) {
+        if (size == 0) {
+            return;
+        }
+        queryStamp++;
+
+        int minCellX = cellOf(minX);
+        int minCellY = cellOf(minY);
+        int maxCellX = cellOf(maxX);
+        int maxCellY = cellOf(maxY);
+        for (int cellY = minCellY; cellY <= maxCellY; cellY++) {
+            for (int cellX = minCellX; cellX <= maxCellX; cellX++) {
+                collectBucket(bucketFor(cellX, cellY), minX, minY, maxX, maxY, result);
+            }
+        }
+    }
+
+    private void collectBucket(int bucket, double minX, double minY, double maxX, double maxY, List<T> result) {
+        if (visitedStamp[bucket] == queryStamp) {
+            return;
+        }
+        visitedStamp[bucket] = queryStamp;
+
+        // Other cells can hash to the same bucket, so filter on the center as well
+        List<T> list = buckets.get(bucket);
+        for (int i = 0; i < list.size(); i++) {
+            T entity = list.get(i);
+            double centerX = entity.getCenterX();
+            double centerY = entity.getCenterY();
+            if (centerX >= minX && centerX <= maxX && centerY >= minY && centerY <= maxY) {
+                result.add(entity);
+            }
+        }
+    }
+
+    private static int cellOf(double coordinate) {
+        return (int)Math.floor(coordinate / CELL_SIZE);
+    }
+
+    private static int bucketFor(int cellX, int cellY) {
+        return (cellX * 73856093 ^ cellY * 19349663) & BUCKET_MASK;
+    }
+}
@@ -0,0 +1,163 @@
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+// Decides when and where zombies enter the world. Runs inside the simulation tick, spends the wave's
+// spawn budget in small batches, and picks positions from a pool of free cells around the player
+public class SpawnDirector {
+    protected static final int SAFE_DISTANCE = 200; // Minimum distance from player
+    private static final int MAX_BATCH = 4;
+    // Batches grow by one zombie every few waves
+    private static final int WAVES_PER_BATCH_STEP = 3;
+    // Pool entries can go stale between rebuilds, so a spawn gives up after this many picks
+    private static final int MAX_ATTEMPTS_PER_SPAWN = 8;
+
+    public interface ZombieFactory {
+        void spawnZombie(int x, int y);
+    }
+
+    private final GameInfo gameInfo;
+    private final Random random;
+    private final ZombieFactory factory;
+
+    private int ticksUntilBatch;
+    // Free cells in world cell coordinates, packed as two ints per entry
+    private int[] pool = new int[0];
+    private int poolSize = 0;
+    private Background poolBackground;
+    private int poolCellX;
+    private int poolCellY;
+
+    public SpawnDirector(GameInfo gameInfo, Random random, ZombieFactory factory) {
+        this.gameInfo = gameInfo;
+        this.random = random;
+        this.factory = factory;
+        reset();
+    }
+
+    public void reset() {
+        ticksUntilBatch = ticksPerSpawn();
+        poolBackground = null;
+        poolSize = 0;
+    }
+
+    // Call once per tick
+    public void tick(Background background, Camera camera) {
+        if (--ticksUntilBatch > 0) {
+            return;
+        }
+
+        int remaining = gameInfo.getMaxZombiesPerWave() - gameInfo.zombiesSpawned;
+        int batchSize = Math.min(getBatchSize(), Math.max(0, remaining));
+
+        // A batch of n waits n spawn intervals, so the average rate is still the difficulty's spawn rate
+        ticksUntilBatch = ticksPerSpawn() * Math.max(1, batchSize);
+        if (batchSize == 0) {
+            return;
+        }
+
+        refreshPool(background, camera);
+        for (int i = 0; i < batchSize; i++) {
+            spawnOne(background, camera);
+        }
+    }
+
+    public int getBatchSize() {
+        return Math.min(MAX_BATCH, 1 + (gameInfo.currentWave - 1) / WAVES_PER_BATCH_STEP);
+    }
+
+    private int ticksPerSpawn() {
+        return Math.max(1, gameInfo.currentZombieSpawnRate * GameLoop.TICKS_PER_SECOND / 1000);
+    }
+
+    private void spawnOne(Background background, Camera camera) {
+        if (poolSize == 0) {
+            return;
+        }
+
+        double playerCenterX = gameInfo.player.getCenterX();
+        double playerCenterY = gameInfo.player.getCenterY();
+        // Zombies appear somewhere in the current view
+        double minX = camera.getX();
+        double minY = camera.getY();
+        double maxX = minX + camera.getWidth() - Zombie.ZOMBIE_WIDTH;
+        double maxY = minY + camera.getHeight() - Zombie.ZOMBIE_HEIGHT;
+
+        for (int attempt = 0; attempt < MAX_ATTEMPTS_PER_SPAWN; attempt++) {
+            int index = random.nextInt(poolSize) * 2;
+            int cellX = pool[index];
+            int cellY = pool[index + 1];
+
+            // Place the zombie so its feet land in the middle of the cell
+            int x = cellX * background.TILE_SIZE + background.TILE_SIZE / 2 - Zombie.ZOMBIE_WIDTH / 2;
+            int y = cellY * background.TILE_SIZE + background.TILE_SIZE / 2 - Zombie.ZOMBIE_HEIGHT * 3 / 4;
+            if (x < minX || x > maxX || y < minY || y > maxY) {
+                continue;
+            }
+
+            double dx = playerCenterX - (x + Zombie.ZOMBIE_WIDTH / 2);
+            double dy = playerCenterY - (y + Zombie.ZOMBIE_HEIGHT / 2);
+            if (dx * dx + dy * dy < SAFE_DISTANCE * SAFE_DISTANCE) {
+                continue;
+            }
+
+            // Cells the renderer generated after the pool was built may have become obstacles
+            if (!background.isValidSpawnPosition(x, y, Zombie.ZOMBIE_WIDTH, Zombie.ZOMBIE_HEIGHT)) {
+                continue;
+            }
+
+            factory.spawnZombie(x, y);
+            return;
+        }
+    }
+
+    // The camera stays centred on the player, so the pool only changes when the view moves into another cell
+    private void refreshPool(Background background, Camera camera) {
+        int tileSize = background.TILE_SIZE;
+        int cellX = (int)Math.floor(camera.getX() / tileSize);
+        int cellY = (int)Math.floor(camera.getY() / tileSize);
+        if (background == poolBackground && cellX == poolCellX && cellY == poolCellY) {
+            return;
+        }
+        poolBackground = background;
+        poolCellX = cellX;
+        poolCellY = cellY;
+
+        int columns = camera.getWidth() / tileSize + 2;
+        int rows = camera.getHeight() / tileSize + 2;
+        if (pool.length < columns * rows * 2) {
+            pool = new int[columns * rows * 2];
+        }
+        poolSize = 0;
+
+        double playerCenterX = gameInfo.player.getCenterX();
+        double playerCenterY = gameInfo.player.getCenterY();
+        for (int row = 0; row < rows; row++) {
+            for (int column = 0; column < columns; column++) {
+                int candidateX = cellX + column;
+                int candidateY = cellY + row;
+                if (background.isObstacleCell(candidateX, candidateY)) {
+                    continue;
+                }
+
+                // Keep a tile of slack so the pool survives the view drifting until the next rebuild
+                double centerX = candidateX * tileSize + tileSize / 2;
+                double centerY = candidateY * tileSize + tileSize / 2 - Zombie.ZOMBIE_HEIGHT / 4;
+                double dx = playerCenterX - centerX;
+                double dy = playerCenterY - centerY;
+                double minDistance = SAFE_DISTANCE - tileSize;
+                if (dx * dx + dy * dy < minDistance * minDistance) {
+                    continue;
+                }
+
+                pool[poolSize * 2] = candidateX;
+                pool[poolSize * 2 + 1] = candidateY;
+                poolSize++;
+            }
+        }
+    }
+
+    public int getPoolSize() {
+        return poolSize;
+    }
+}
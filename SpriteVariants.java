@@ -0,0 +1,68 @@
+import java.awt.AlphaComposite;
+import java.awt.Graphics2D;
+import java.awt.color.ColorSpace;
+import java.awt.image.BufferedImage;
+import java.awt.image.ColorConvertOp;
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+// Flash and mirror versions of sprites, derived once per source image and reused every frame
+public class SpriteVariants {
+    public enum Variant { FLASH, MIRROR, MIRROR_FLASH }
+
+    private static final ColorConvertOp flashEffect = new ColorConvertOp(ColorSpace.getInstance(ColorSpace.CS_GRAY), null);
+
+    // Weak keys so variants go away together with the image they were made from
+    private static final Map<BufferedImage, BufferedImage[]> variants = Collections.synchronizedMap(new WeakHashMap<>());
+
+    public static BufferedImage get(BufferedImage source, boolean flashing, boolean mirrored) {
+        if (source == null || (!flashing && !mirrored)) {
+            return source;
+        }
+        if (flashing && mirrored) {
+            return get(source, Variant.MIRROR_FLASH);
+        }
+        return get(source, flashing ? Variant.FLASH : Variant.MIRROR);
+    }
+
+    public static BufferedImage get(BufferedImage source, Variant variant) {
+        BufferedImage[] derived = variants.get(source);
+        if (derived == null) {
+            derived = prepare(source);
+        }
+        return derived[variant.ordinal()];
+    }
+
+    // Build every variant of an image up front so no filter runs while a frame is drawn
+    public static BufferedImage[] prepare(BufferedImage source) {
+        BufferedImage[] derived = variants.get(source);
+        if (derived != null) {
+            return derived;
+        }
+
+        derived = new BufferedImage[Variant.values().length];
+        BufferedImage flash = toCompatible(flashEffect.filter(source, null), false);
+        derived[Variant.FLASH.ordinal()] = flash;
+        derived[Variant.MIRROR.ordinal()] = toCompatible(source, true);
+        derived[Variant.MIRROR_FLASH.ordinal()] = toCompatible(flash, true);
+
+        variants.put(source, derived);
+        return derived;
+    }
+
+    private static BufferedImage toCompatible(BufferedImage source, boolean mirrored) {
+        int width = source.getWidth();
+        int height = source.getHeight();
+        BufferedImage result = ImageCache.createCompatibleImage(width, height);
+        Graphics2D g = result.createGraphics();
+        g.setComposite(AlphaComposite.Src);
+        if (mirrored) {
+            g.drawImage(source, width, 0, 0, height, 0, 0, width, height, null);
+        } else {
+            g.drawImage(source, 0, 0, null);
+        }
+        g.dispose();
+        return result;
+    }
+}
@@ -3,19 +3,17 @@ import java.awt.Dimension;
 import java.awt.Font;
 import java.awt.Image;
 import java.awt.image.BufferedImage;
-import java.io.File;
-import java.io.IOException;
 import java.awt.Graphics;
 import java.awt.Graphics2D;
 import java.awt.RenderingHints;
 import java.awt.GradientPaint;
 import java.awt.BasicStroke;
-import javax.imageio.ImageIO;
 import javax.swing.ImageIcon;
 import javax.swing.JLabel;
 import javax.swing.JPanel;
 import javax.swing.JProgressBar;
 import javax.swing.SwingConstants;
+import javax.swing.SwingUtilities;
 import javax.swing.border.EmptyBorder;
 
 public class StatPanel extends JPanel {
@@ -23,6 +21,7 @@ public class StatPanel extends JPanel {
     public static final int HEIGHT = 75;
 
     private GameInfo gameInfo;
+    private volatile boolean updateQueued = false;
     private String ammoText = "Ammo: ";
     private String ammoClipText = "Ammo Clip: ";
     private String waveText = "Wave: ";
@@ -47,9 +46,8 @@ public class StatPanel extends JPanel {
         setLayout(null);
         
         // Load background texture
-        try {
-            backgroundTexture = ImageIO.read(new File("assets/Background/tile_0028.png"));
-        } catch (IOException e) {
+        backgroundTexture = ImageCache.get("assets/Background/tile_0028.png");
+        if (backgroundTexture == null) {
             System.err.println("Could not load panel texture");
         }
         
@@ -278,7 +276,22 @@ public class StatPanel extends JPanel {
         g2d.fillRect(0, getHeight()-2, getWidth(), 2);
     }
 
+    // Callable from the game loop thread; refreshes from there are merged into one EDT update
     public void update() {
+        if (!SwingUtilities.isEventDispatchThread()) {
+            if (!updateQueued) {
+                updateQueued = true;
+                SwingUtilities.invokeLater(() -> {
+                    updateQueued = false;
+                    refresh();
+                });
+            }
+            return;
+        }
+        refresh();
+    }
+
+    private void refresh() {
         Weapon weapon = gameInfo.player.currentWeapon;
         weaponNameLabel.setText(getWeaponName(weapon));
         updateWeaponImage(weapon);
@@ -325,13 +338,13 @@ public class StatPanel extends JPanel {
     }
     
     private void updateWeaponImage(Weapon weapon) {
-        try {
-            BufferedImage originalImage = ImageIO.read(new File(weapon.appearanceImagePath));
-            Image resizedImage = originalImage.getScaledInstance(64, 48, Image.SCALE_SMOOTH);
-            weaponImageLabel.setIcon(new ImageIcon(resizedImage));
-        } catch (IOException e) {
+        BufferedImage originalImage = ImageCache.get(weapon.appearanceImagePath);
+        if (originalImage == null) {
             System.err.println("Could not load weapon image: " + weapon.appearanceImagePath);
+            return;
         }
+        Image resizedImage = originalImage.getScaledInstance(64, 48, Image.SCALE_SMOOTH);
+        weaponImageLabel.setIcon(new ImageIcon(resizedImage));
     }
     
     private JLabel createLabelWithIcon(String text, String iconPath, Color textColor) {
@@ -342,13 +355,13 @@ public class StatPanel extends JPanel {
         JLabel label = new JLabel(text);
         label.setForeground(textColor);
         
-        try {
-            Image img = ImageIO.read(new File(iconPath));
+        Image img = ImageCache.get(iconPath);
+        if (img != null) {
             Image resizedImg = img.getScaledInstance(iconWidth, iconHeight, Image.SCALE_SMOOTH);
             label.setIcon(new ImageIcon(resizedImg));
             
             label.setIconTextGap(8);
-        } catch (IOException e) {
+        } else {
             System.err.println("Could not load icon: " + iconPath);
         }
         
@@ -0,0 +1,220 @@
+import java.awt.Graphics2D;
+import java.awt.AlphaComposite;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Packs many small sprites into a few large pages so draws share surfaces
+public class TextureAtlas {
+    private static final int PAGE_SIZE = 2048;
+    private static final int PADDING = 1;
+
+    protected static final String[] ATLAS_DIRECTORIES = {
+        "assets/Laser Sprites/",
+        "assets/Weapons/",
+        "assets/Zombies/",
+        "assets/Foods/Vegetables/",
+        "assets/Foods/Fruits/"
+    };
+
+    private static final Map<String, AtlasRegion> regions = new ConcurrentHashMap<>();
+    private static final Map<String, AtlasRegion> scaledRegions = new ConcurrentHashMap<>();
+    private static final List<BufferedImage> pages = new ArrayList<>();
+
+    // Shelf packer state for the page currently being filled
+    private static BufferedImage currentPage;
+    private static Graphics2D currentGraphics;
+    private static int shelfX;
+    private static int shelfY;
+    private static int shelfHeight;
+
+    public static synchronized void buildDefault() {
+        List<String> paths = new ArrayList<>();
+        for (String directory : ATLAS_DIRECTORIES) {
+            paths.addAll(listImages(directory));
+        }
+        build(paths);
+
+        // Pre-scale to the sizes GamePanel draws at so sprite draws are 1:1 blits
+        prescale(listImages("assets/Laser Sprites/"), 100);
+        prescale(List.of("assets/Laser Sprites/55.png"), 200);
+        prescale(listImages("assets/Zombies/"), Zombie.ZOMBIE_WIDTH);
+        prescale(listImages("assets/Weapons/"), 64);
+        prescale(listImages("assets/Weapons/"), 48);
+        prescale(listImages("assets/Foods/Vegetables/"), 64);
+        prescale(listImages("assets/Foods/Fruits/"), 64);
+
+        // Zombies flash and face left, build those variants before the first frame
+        for (String path : listImages("assets/Zombies/")) {
+            AtlasRegion original = getRegion(path);
+            if (original != null) {
+                int height = (int)(Zombie.ZOMBIE_WIDTH * ((double)original.getHeight() / original.getWidth()));
+                SpriteVariants.prepare(getRegion(path, Zombie.ZOMBIE_WIDTH, height).getImage());
+            }
+        }
+    }
+
+    private static void prescale(List<String> paths, int width) {
+        for (String path : paths) {
+            AtlasRegion original = getRegion(path);
+            if (original != null) {
+                // Same preserved-ratio height as Entity.calculatePreservedRatio
+                int height = (int)(width * ((double)original.getHeight() / original.getWidth()));
+                getRegion(path, width, height);
+            }
+        }
+    }
+
+    public static synchronized void build(List<String> paths) {
+        List<String> toPack = new ArrayList<>();
+        for (String path : paths) {
+            if (!regions.containsKey(new File(path).getPath()) && ImageCache.get(path) != null) {
+                toPack.add(path);
+            }
+        }
+
+        // Tallest first keeps the shelves tight
+        toPack.sort((a, b) -> ImageCache.get(b).getHeight() - ImageCache.get(a).getHeight());
+
+        for (String path : toPack) {
+            BufferedImage source = ImageCache.get(path);
+            AtlasRegion region = pack(source);
+            if (region == null) {
+                continue;
+            }
+            String key = new File(path).getPath();
+            regions.put(key, region);
+
+            // The cache now hands out a view into the page so the decoded original can be collected
+            ImageCache.put(key, region.getImage());
+        }
+
+        if (currentGraphics != null) {
+            currentGraphics.dispose();
+            currentGraphics = null;
+        }
+    }
+
+    private static AtlasRegion pack(BufferedImage source) {
+        int width = source.getWidth();
+        int height = source.getHeight();
+        if (width + PADDING * 2 > PAGE_SIZE || height + PADDING * 2 > PAGE_SIZE) {
+            System.err.println("Sprite too large for texture atlas: " + width + "x" + height);
+            return null;
+        }
+
+        if (currentPage == null) {
+            newPage();
+        }
+        if (shelfX + width + PADDING > PAGE_SIZE) {
+            // Start a new shelf below the current one
+            shelfX = PADDING;
+            shelfY += shelfHeight + PADDING;
+            shelfHeight = 0;
+        }
+        if (shelfY + height + PADDING > PAGE_SIZE) {
+            newPage();
+        }
+        if (currentGraphics == null) {
+            currentGraphics = currentPage.createGraphics();
+            currentGraphics.setComposite(AlphaComposite.Src);
+        }
+
+        currentGraphics.drawImage(source, shelfX, shelfY, null);
+        AtlasRegion region = new AtlasRegion(currentPage, shelfX, shelfY, width, height);
+
+        shelfX += width + PADDING;
+        shelfHeight = Math.max(shelfHeight, height);
+        return region;
+    }
+
+    private static void newPage() {
+        if (currentGraphics != null) {
+            currentGraphics.dispose();
+            currentGraphics = null;
+        }
+        currentPage = ImageCache.createCompatibleImage(PAGE_SIZE, PAGE_SIZE);
+        pages.add(currentPage);
+        shelfX = PADDING;
+        shelfY = PADDING;
+        shelfHeight = 0;
+    }
+
+    public static AtlasRegion getRegion(String path) {
+        if (path == null) {
+            return null;
+        }
+        return regions.get(new File(path).getPath());
+    }
+
+    // Region holding the sprite pre-scaled to exactly width x height, packed on first request
+    public static AtlasRegion getRegion(String path, int width, int height) {
+        AtlasRegion original = getRegion(path);
+        if (original == null || width <= 0 || height <= 0) {
+            return original;
+        }
+        if (original.getWidth() == width && original.getHeight() == height) {
+            return original;
+        }
+        String key = new File(path).getPath() + "@" + width + "x" + height;
+        AtlasRegion scaled = scaledRegions.get(key);
+        if (scaled == null) {
+            scaled = packScaled(key, original, width, height);
+        }
+        return scaled;
+    }
+
+    private static synchronized AtlasRegion packScaled(String key, AtlasRegion original, int width, int height) {
+        AtlasRegion scaled = scaledRegions.get(key);
+        if (scaled != null) {
+            return scaled;
+        }
+
+        BufferedImage variant = ImageCache.createCompatibleImage(width, height);
+        Graphics2D g = variant.createGraphics();
+        g.setComposite(AlphaComposite.Src);
+        // Match the nearest neighbor hint GamePanel renders with
+        g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_NEAREST_NEIGHBOR);
+        g.drawImage(original.getImage(), 0, 0, width, height, null);
+        g.dispose();
+
+        scaled = pack(variant);
+        if (currentGraphics != null) {
+            currentGraphics.dispose();
+            currentGraphics = null;
+        }
+        if (scaled == null) {
+            return original;
+        }
+        scaledRegions.put(key, scaled);
+        return scaled;
+    }
+
+    public static int getPageCount() {
+        return pages.size();
+    }
+
+    public static int getRegionCount() {
+        return regions.size() + scaledRegions.size();
+    }
+
+    protected static List<String> listImages(String directory) {
+        List<String> paths = new ArrayList<>();
+        File dir = new File(directory);
+        File[] files = dir.listFiles((d, name) -> name.toLowerCase().endsWith(".png"));
+        if (files == null) {
+            System.err.println("Atlas directory not found: " + directory);
+            return paths;
+        }
+        Arrays.sort(files);
+        for (File file : files) {
+            paths.add(directory + file.getName());
+        }
+        return paths;
+    }
+}
@@ -0,0 +1,99 @@
+import java.util.ArrayList;
+import java.util.List;
+
+// Hashed timer wheel advanced by the simulation tick. Deferred actions run on the game thread,
+// in the order they were scheduled, without any extra threads
+public class TickScheduler {
+    // One lap of the wheel is a little over 4 seconds at 120 ticks per second
+    private static final int WHEEL_SIZE = 512;
+    private static final int WHEEL_MASK = WHEEL_SIZE - 1;
+
+    public static class Task {
+        private final Runnable action;
+        private long rounds;
+        private boolean cancelled = false;
+
+        private Task(Runnable action, long rounds) {
+            this.action = action;
+            this.rounds = rounds;
+        }
+
+        public void cancel() {
+            cancelled = true;
+        }
+
+        public boolean isCancelled() {
+            return cancelled;
+        }
+    }
+
+    private final List<List<Task>> slots = new ArrayList<>(WHEEL_SIZE);
+    private final List<Task> kept = new ArrayList<>();
+    private long currentTick = 0;
+
+    public TickScheduler() {
+        for (int i = 0; i < WHEEL_SIZE; i++) {
+            slots.add(new ArrayList<>());
+        }
+    }
+
+    // Runs the action after the given game time, rounded up to whole ticks
+    public Task schedule(long delayMs, Runnable action) {
+        long delayTicks = (delayMs * GameLoop.TICKS_PER_SECOND + 999) / 1000;
+        return scheduleTicks(delayTicks, action);
+    }
+
+    // Always at least one tick away, so an action scheduled while firing never runs in the same pass
+    public Task scheduleTicks(long delayTicks, Runnable action) {
+        long ticks = Math.max(1, delayTicks);
+        Task task = new Task(action, (ticks - 1) / WHEEL_SIZE);
+        slots.get((int)((currentTick + ticks) & WHEEL_MASK)).add(task);
+        return task;
+    }
+
+    // Call once per tick
+    public void advance() {
+        currentTick++;
+        List<Task> slot = slots.get((int)(currentTick & WHEEL_MASK));
+        if (slot.isEmpty()) {
+            return;
+        }
+
+        // Anything appended while these run belongs to a later lap, so only the current entries are visited
+        int count = slot.size();
+        for (int i = 0; i < count; i++) {
+            Task task = slot.get(i);
+            if (task.cancelled) {
+                continue;
+            }
+            if (task.rounds > 0) {
+                task.rounds--;
+                kept.add(task);
+                continue;
+            }
+            task.action.run();
+        }
+        kept.addAll(slot.subList(count, slot.size()));
+        slot.clear();
+        slot.addAll(kept);
+        kept.clear();
+    }
+
+    public void clear() {
+        for (List<Task> slot : slots) {
+            slot.clear();
+        }
+    }
+
+    public int size() {
+        int size = 0;
+        for (List<Task> slot : slots) {
+            for (Task task : slot) {
+                if (!task.cancelled) {
+                    size++;
+                }
+            }
+        }
+        return size;
+    }
+}
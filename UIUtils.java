@@ -5,9 +5,6 @@ import java.awt.Graphics2D;
 import java.awt.Image;
 import java.awt.FontMetrics;
 import java.awt.RenderingHints;
-import java.io.File;
-import java.io.IOException;
-import javax.imageio.ImageIO;
 import javax.swing.BorderFactory;
 import javax.swing.ImageIcon;
 import javax.swing.JButton;
@@ -135,14 +132,14 @@ public class UIUtils {
 		if (iconPath == null) {
 			button.setIconTextGap(20);
 		} else {
-			try {
-				Image img = ImageIO.read(new File(iconPath));
+			Image img = ImageCache.get(iconPath);
+			if (img != null) {
 				Image resizedImg = img.getScaledInstance(36, 36, Image.SCALE_SMOOTH);
 				button.setIcon(new ImageIcon(resizedImg));
 				
 				button.setHorizontalTextPosition(JButton.RIGHT);
 				button.setIconTextGap(12);
-			} catch (IOException e) {
+			} else {
 				System.err.println("Could not load icon: " + iconPath);
 			}
 		}
@@ -1,11 +1,3 @@
-import java.io.File;
-import java.io.IOException;
-
-import javax.sound.sampled.AudioFormat;
-import javax.sound.sampled.AudioInputStream;
-import javax.sound.sampled.AudioSystem;
-import javax.sound.sampled.UnsupportedAudioFileException;
-
 public class Weapon extends Entity {
     private static final int WEAPON_SIZE = 64;
 
@@ -38,44 +30,66 @@ public class Weapon extends Entity {
     }
     
     protected void calculateReloadTimeFromSound() {
-        if (reloadSoundPath != null) {
-            try {
-                File soundFile = new File(reloadSoundPath);
-                if (soundFile.exists()) {
-                    AudioInputStream audioInputStream = AudioSystem.getAudioInputStream(soundFile);
-                    AudioFormat format = audioInputStream.getFormat();
-                    long frames = audioInputStream.getFrameLength();
-                    reloadTimeMs = (long) (frames / format.getFrameRate() * 1000);
-                    audioInputStream.close();
-                }
-            } catch (UnsupportedAudioFileException | IOException e) {
-                System.err.println("Error calculating sound duration: " + e.getMessage());
-                // Keep the default reload time if there's an error
-            }
+        // Duration comes from the shared metadata index, so no file is opened after startup
+        AudioMetadata metadata = AudioMetadata.get(reloadSoundPath);
+        if (metadata != null && metadata.getFrameLength() > 0) {
+            reloadTimeMs = metadata.getDurationMs();
         }
+        // Otherwise keep the default reload time
     }
 
-    public void reload() {
+    // Returns true if a new reload started; the caller schedules finishReload after reloadTimeMs
+    public boolean reload(long currentTime) {
         if (!isReloading && currentAmmo < maxAmmoInClip && currentTotalAmmo > 0) {
             isReloading = true;
-            reloadStartTime = System.currentTimeMillis();
+            reloadStartTime = currentTime;
             playReloadSound();
+            return true;
+        }
+        return false;
+    }
+
+    public void finishReload() {
+        int ammoNeeded = maxAmmoInClip - currentAmmo;
+        if (currentTotalAmmo >= ammoNeeded) {
+            currentAmmo += ammoNeeded;
+            currentTotalAmmo -= ammoNeeded;
+        } else {
+            currentAmmo += currentTotalAmmo;
+            currentTotalAmmo = 0;
+        }
+        
+        isReloading = false;
+        canShoot = true;
+    }
+
+    // Components for the bullets this weapon fires, on top of the ones every bullet has
+    protected Object[] createBulletComponents() {
+        return NO_COMPONENTS;
+    }
+
+    // Picked up ammo goes to the reserve, capped rather than overflowing
+    public void addAmmo(int amount) {
+        if (currentTotalAmmo <= Integer.MAX_VALUE - amount) {
+            currentTotalAmmo += amount;
+        } else {
+            currentTotalAmmo = Integer.MAX_VALUE;
         }
     }
 
-    public boolean canShoot() {
+    public boolean canShoot(long currentTime) {
         if (!canShoot) {
-            if (System.currentTimeMillis() - lastShotTime >= fireDelay) {
+            if (currentTime - lastShotTime >= fireDelay) {
                 canShoot = true;
             }
         }
         return canShoot && currentAmmo > 0 && !isReloading;
     }
 
-    public void shoot() {
+    public void shoot(long currentTime) {
         if (canShoot) {
             canShoot = false;
-            lastShotTime = System.currentTimeMillis();
+            lastShotTime = currentTime;
             playFiringSound();
         }
     }
@@ -1,5 +1,4 @@
 import java.io.File;
-import java.awt.Rectangle;
 
 public class Zombie extends Entity {
     protected static final int ZOMBIE_WIDTH = 96;
@@ -14,11 +13,12 @@ public class Zombie extends Entity {
     protected long lastAttackTime = 0;
     protected int score = 100;
     protected double attackDistancePercent = 0.5;
+    // Where this zombie's columns sit in the ZombieStore; the store checks the slot still holds this zombie
+    protected transient int storeSlot = -1;
 
     public Zombie(int x, int y, int health, double speed, double damage, String appearanceImagePath, int score) {
         this(x, y, health, speed, damage, appearanceImagePath);
         this.score = score;
-        lastAttackTime = System.currentTimeMillis();
     }
 
     public Zombie(int x, int y, int health, double speed, double damage, String appearanceImagePath) {
@@ -34,10 +34,19 @@ public class Zombie extends Entity {
         setImage(new File(appearanceImagePath));
     }
 
-    public boolean canAttack() {
+    @Override
+    protected Object[] createComponents() {
+        return new Object[] { new Components.Melee() };
+    }
+
+    // Start cooldowns from the game time the zombie entered the world
+    public void spawnedAt(long currentTime) {
+        lastAttackTime = currentTime;
+    }
+
+    public boolean canAttack(long currentTime) {
         if (!canAttack) {
             // Calculate if enough time has passed since last attack
-            long currentTime = System.currentTimeMillis();
             long fireDelay = 60000 / attacksPerMinute;
             long difference = currentTime - lastAttackTime;
             if (difference >= fireDelay) {
@@ -51,27 +60,40 @@ public class Zombie extends Entity {
         return distance > attackRange * attackDistancePercent;
     }
 
-    public void attack() {
+    public void attack(long currentTime) {
         if (canAttack) {
             canAttack = false;
-            lastAttackTime = System.currentTimeMillis();
+            lastAttackTime = currentTime;
         }
     }
 
-    public Rectangle getBounds() {
-        int reducedWidth = width / 2;
-        int reducedHeight = height / 2;
-        int topLeftX = (int)x + (width - reducedWidth) / 2;
-        int topLeftY = (int)y + (height - reducedHeight) / 2 + height / 8;
-        return new Rectangle(topLeftX, topLeftY, reducedWidth, reducedHeight);
+    // Hit box is half the sprite, centred and nudged down onto the body
+    @Override
+    public double getHitX() {
+        return (int)x + (width - getHitWidth()) / 2;
+    }
+
+    @Override
+    public double getHitY() {
+        return (int)y + (height - getHitHeight()) / 2 + height / 8;
+    }
+
+    @Override
+    public int getHitWidth() {
+        return width / 2;
+    }
+
+    @Override
+    public int getHitHeight() {
+        return height / 2;
     }
 
-    public void reset(int x, int y) {
+    public void reset(int x, int y, long currentTime) {
         this.x = x;
         this.y = y;
         this.health = this.maxHealth;
         this.canAttack = true;
-        this.lastAttackTime = System.currentTimeMillis();
+        this.lastAttackTime = currentTime;
         if (image == null) {
             setImage(new File(appearanceImagePath));
         }
@@ -0,0 +1,208 @@
+import java.util.Arrays;
+
+// The state the per-tick zombie update touches, kept as parallel primitive columns instead of fields
+// spread across Zombie objects, so aiming, attack checks and movement are straight loops over arrays.
+// Slot i in every column is one zombie; removing one moves the last zombie into its slot.
+// The Zombie objects stay as views for rendering, collisions and saves: positions are written back
+// to them once per tick. Systems for rarer behaviour, such as attacks and jumps, work on a zombie
+// through its slot
+public class ZombieStore {
+    private int count = 0;
+    private Zombie[] views = new Zombie[64];
+    private double[] x = new double[64];
+    private double[] y = new double[64];
+    private double[] halfWidth = new double[64];
+    private double[] halfHeight = new double[64];
+    private double[] speed = new double[64];
+    // Direction to the player and distance from it, worked out by aim() each tick
+    private double[] directionX = new double[64];
+    private double[] directionY = new double[64];
+    private double[] distance = new double[64];
+    private double[] attackRange = new double[64];
+    // Zombies stop walking once they are this close to the player
+    private double[] holdDistance = new double[64];
+    // Game time the zombie may attack again, and the delay between attacks
+    private long[] nextAttackTime = new long[64];
+    private long[] attackDelay = new long[64];
+    // Set for a zombie that moved itself this tick, so the walk leaves it alone
+    private boolean[] holding = new boolean[64];
+
+    public void add(Zombie zombie) {
+        if (zombie.storeSlot >= 0 && zombie.storeSlot < count && views[zombie.storeSlot] == zombie) {
+            return;
+        }
+        if (count == views.length) {
+            grow(count * 2);
+        }
+        int slot = count++;
+        views[slot] = zombie;
+        zombie.storeSlot = slot;
+        holding[slot] = false;
+        refresh(zombie);
+    }
+
+    // Removing a zombie that isn't stored does nothing
+    public void remove(Zombie zombie) {
+        int slot = zombie.storeSlot;
+        if (slot < 0 || slot >= count || views[slot] != zombie) {
+            return;
+        }
+        int last = --count;
+        if (slot != last) {
+            views[slot] = views[last];
+            views[slot].storeSlot = slot;
+            x[slot] = x[last];
+            y[slot] = y[last];
+            halfWidth[slot] = halfWidth[last];
+            halfHeight[slot] = halfHeight[last];
+            speed[slot] = speed[last];
+            directionX[slot] = directionX[last];
+            directionY[slot] = directionY[last];
+            distance[slot] = distance[last];
+            attackRange[slot] = attackRange[last];
+            holdDistance[slot] = holdDistance[last];
+            nextAttackTime[slot] = nextAttackTime[last];
+            attackDelay[slot] = attackDelay[last];
+            holding[slot] = holding[last];
+        }
+        views[last] = null;
+        zombie.storeSlot = -1;
+    }
+
+    public void clear() {
+        for (int i = 0; i < count; i++) {
+            views[i].storeSlot = -1;
+            views[i] = null;
+        }
+        count = 0;
+    }
+
+    // Copies the view's fields into its slot, for when something outside the update changed them
+    public void refresh(Zombie zombie) {
+        int slot = zombie.storeSlot;
+        x[slot] = zombie.x;
+        y[slot] = zombie.y;
+        halfWidth[slot] = zombie.width / 2;
+        halfHeight[slot] = zombie.height / 2;
+        speed[slot] = zombie.moveSpeed;
+        attackRange[slot] = zombie.attackRange;
+        holdDistance[slot] = zombie.attackRange * zombie.attackDistancePercent;
+        attackDelay[slot] = 60000 / zombie.attacksPerMinute;
+        nextAttackTime[slot] = zombie.canAttack ? zombie.lastAttackTime : zombie.lastAttackTime + attackDelay[slot];
+    }
+
+    public int size() {
+        return count;
+    }
+
+    public Zombie get(int slot) {
+        return views[slot];
+    }
+
+    public double getX(int slot) {
+        return x[slot];
+    }
+
+    public double getY(int slot) {
+        return y[slot];
+    }
+
+    public double getSpeed(int slot) {
+        return speed[slot];
+    }
+
+    public double getDistance(int slot) {
+        return distance[slot];
+    }
+
+    public void setPosition(int slot, double x, double y) {
+        this.x[slot] = x;
+        this.y[slot] = y;
+    }
+
+    // The zombie moves itself this tick and skips the walk
+    public void hold(int slot) {
+        holding[slot] = true;
+    }
+
+    // Points every zombie at the player and records how far away it is
+    public void aim(double targetX, double targetY) {
+        for (int i = 0; i < count; i++) {
+            double dx = targetX - (x[i] + halfWidth[i]);
+            double dy = targetY - (y[i] + halfHeight[i]);
+            double length = Math.sqrt(dx * dx + dy * dy);
+            double scale = length > 0 ? 1 / length : 1;
+            directionX[i] = dx * scale;
+            directionY[i] = dy * scale;
+            distance[i] = length;
+        }
+    }
+
+    // In range with its attack cooled down; needs aim() first
+    public boolean isAttackReady(int slot, long currentTime) {
+        return distance[slot] < attackRange[slot] && currentTime >= nextAttackTime[slot];
+    }
+
+    // Starts the cooldown in the column and on the view, so a save sees it too
+    public void startAttack(int slot, long currentTime) {
+        Zombie zombie = views[slot];
+        zombie.canAttack(currentTime);
+        zombie.attack(currentTime);
+        nextAttackTime[slot] = currentTime + attackDelay[slot];
+    }
+
+    // Walks every zombie toward the player, sliding along walls; needs aim() first
+    public void move(Background background) {
+        for (int i = 0; i < count; i++) {
+            if (holding[i]) {
+                holding[i] = false;
+                continue;
+            }
+            if (distance[i] <= holdDistance[i]) {
+                continue;
+            }
+
+            double moveX = directionX[i] * speed[i];
+            double moveY = directionY[i] * speed[i];
+            int width = (int)(halfWidth[i] * 2);
+            int height = (int)(halfHeight[i] * 2);
+            if (background.isValidMoveForEntity(x[i], y[i], moveX, moveY, width, height)) {
+                x[i] += moveX;
+                y[i] += moveY;
+            } else if (background.isValidMoveForEntity(x[i], y[i], moveX, 0, width, height)) {
+                // Slide along the wall on whichever axis is still open
+                x[i] += moveX;
+            } else if (background.isValidMoveForEntity(x[i], y[i], 0, moveY, width, height)) {
+                y[i] += moveY;
+            }
+        }
+    }
+
+    // Hands positions and facing back to the views for the renderer, the grid and collisions
+    public void writeBack() {
+        for (int i = 0; i < count; i++) {
+            Zombie zombie = views[i];
+            zombie.x = x[i];
+            zombie.y = y[i];
+            zombie.directionX = directionX[i];
+            zombie.directionY = directionY[i];
+        }
+    }
+
+    private void grow(int capacity) {
+        views = Arrays.copyOf(views, capacity);
+        x = Arrays.copyOf(x, capacity);
+        y = Arrays.copyOf(y, capacity);
+        halfWidth = Arrays.copyOf(halfWidth, capacity);
+        halfHeight = Arrays.copyOf(halfHeight, capacity);
+        speed = Arrays.copyOf(speed, capacity);
+        directionX = Arrays.copyOf(directionX, capacity);
+        directionY = Arrays.copyOf(directionY, capacity);
+        distance = Arrays.copyOf(distance, capacity);
+        attackRange = Arrays.copyOf(attackRange, capacity);
+        holdDistance = Arrays.copyOf(holdDistance, capacity);
+        nextAttackTime = Arrays.copyOf(nextAttackTime, capacity);
+        attackDelay = Arrays.copyOf(attackDelay, capacity);
+        holding = Arrays.copyOf(holding, capacity);
+    }
+}